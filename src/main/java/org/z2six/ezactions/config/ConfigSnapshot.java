@@ -0,0 +1,85 @@
+// MainFile: src/main/java/org/z2six/ezactions/config/ConfigSnapshot.java
+package org.z2six.ezactions.config;
+
+import net.neoforged.fml.config.IConfigSpec;
+import net.neoforged.fml.event.config.ModConfigEvent;
+import org.z2six.ezactions.Constants;
+
+/**
+ * Immutable view of the settings the radial reads every frame: design (ring geometry, colors),
+ * animation and the general toggles used on the hot path.
+ *
+ * One snapshot is published through a volatile field. It is rebuilt from the ModConfigSpecs when
+ * one of our configs loads or reloads (file edits, Configured) and when ConfigScreen saves, so
+ * changes apply live. Every rebuild bumps {@link #version()}; caches derived from config values
+ * (e.g. radial layouts) compare it to know when to drop their entries.
+ *
+ * Before the specs are loaded the snapshot holds defaults. Never throws.
+ */
+public final class ConfigSnapshot {
+
+    /** Ring geometry and colors. */
+    public final RadialConfig design;
+    /** Animation settings. */
+    public final RadialAnimConfigView anim;
+
+    // General toggles read per frame/tick
+    public final boolean moveWhileRadialOpen;
+    public final boolean flickSelection;
+    public final boolean smartOrderRoot;
+
+    public final int version;
+
+    private static volatile ConfigSnapshot current = new ConfigSnapshot(0, RadialConfig.defaults(),
+            RadialAnimConfigView.defaults(), true, true, false);
+
+    private ConfigSnapshot(int version, RadialConfig design, RadialAnimConfigView anim,
+                           boolean moveWhileRadialOpen, boolean flickSelection, boolean smartOrderRoot) {
+        this.version = version;
+        this.design = design;
+        this.anim = anim;
+        this.moveWhileRadialOpen = moveWhileRadialOpen;
+        this.flickSelection = flickSelection;
+        this.smartOrderRoot = smartOrderRoot;
+    }
+
+    /** The published snapshot. */
+    public static ConfigSnapshot get() { return current; }
+
+    /** Version of the published snapshot; changes on every rebuild. */
+    public static int version() { return current.version; }
+
+    /** MOD bus: one of our configs was loaded. */
+    public static void onConfigLoading(final ModConfigEvent.Loading e) {
+        if (isOurs(e.getConfig().getSpec())) rebuild();
+    }
+
+    /** MOD bus: one of our config files changed on disk (or was edited through Configured). */
+    public static void onConfigReloading(final ModConfigEvent.Reloading e) {
+        if (isOurs(e.getConfig().getSpec())) rebuild();
+    }
+
+    private static boolean isOurs(IConfigSpec spec) {
+        return spec == DesignClientConfig.SPEC || spec == RadialAnimConfig.SPEC || spec == GeneralClientConfig.SPEC;
+    }
+
+    /** Re-read all specs and publish a new snapshot (also called after in-game config edits). */
+    public static synchronized void rebuild() {
+        ConfigSnapshot prev = current;
+
+        RadialConfig design = prev.design;
+        try {
+            design = RadialConfig.fromSpec();
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Design config not loaded yet: {}", Constants.MOD_NAME, t.toString());
+        }
+
+        // RadialAnimConfig/GeneralClientConfig getters fall back to defaults on their own
+        RadialAnimConfigView anim = RadialAnimConfigView.fromSpec();
+        GeneralClientConfig g = GeneralClientConfig.CONFIG;
+
+        current = new ConfigSnapshot(prev.version + 1, design, anim,
+                g.moveWhileRadialOpen(), g.flickSelection(), g.smartOrderRoot());
+        Constants.LOG.debug("[{}] Config snapshot v{} published.", Constants.MOD_NAME, prev.version + 1);
+    }
+}
@@ -30,6 +30,8 @@ public final class DesignClientConfig {
     public static final ModConfigSpec.IntValue ringThickness;
     public static final ModConfigSpec.IntValue scaleStartThreshold;
     public static final ModConfigSpec.IntValue scalePerItem;
+    public static final ModConfigSpec.IntValue maxItemsPerRing;
+    public static final ModConfigSpec.IntValue maxRings;
 
     // Colors as ARGB ints (signed 32-bit). Use full int range.
     public static final ModConfigSpec.IntValue ringColor;
@@ -48,6 +50,10 @@ public final class DesignClientConfig {
                 .defineInRange("scaleStartThreshold", 8, 0, 128);
         scalePerItem        = b.comment("Outer-radius increment per extra item above threshold (pixels).")
                 .defineInRange("scalePerItem", 6, 0, 100);
+        maxItemsPerRing     = b.comment("Maximum slices on one ring. Larger pages add concentric rings.")
+                .defineInRange("maxItemsPerRing", 20, 4, 64);
+        maxRings            = b.comment("Maximum concentric rings. Items beyond maxItemsPerRing x maxRings go to further pages (mouse wheel).")
+                .defineInRange("maxRings", 2, 1, 4);
 
         // IMPORTANT: use full signed range; 0xFFFFFFFF doesn't fit in int as a positive
         ringColor           = b.comment("ARGB color as int (0xAARRGGBB). Signed 32-bit; negatives are normal for opaque colors.")
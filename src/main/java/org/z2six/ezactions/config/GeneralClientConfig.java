@@ -5,12 +5,20 @@ import net.neoforged.neoforge.common.ModConfigSpec;
 import org.apache.commons.lang3.tuple.Pair;
 import org.z2six.ezactions.Constants;
 
+import java.util.List;
+
 /**
  * General client-side TOML config (generated as: config/ezactions/general-client.toml).
  *
  * Only contains settings explicitly requested:
  *  - moveWhileRadialOpen: allow moving while the radial menu is held open (default: true)
  *  - commandEditorVisibleLines: visible line count for the multi-line command editor (default: 5)
+ *  - flickSelection: resolve fast release flicks to the slice the cursor was heading for (default: true)
+ *  - passthroughExtraMappings: extra key mappings passed through while the radial is open (default: none)
+ *  - smartOrderRoot: order the root page by usage, like a smart-order category (default: false)
+ *  - smartOrderHalfLifeHours: how fast usage counts fade for "smart order" categories (default: 72)
+ *  - commands.*: token-bucket limits for outgoing commands (see CommandDispatcher)
+ *  - commands.validateCommands: skip lines the server's command tree rejects (default: true)
  *
  * This class is a simple holder for a NeoForge ModConfigSpec; it does not crash.
  */
@@ -24,6 +32,27 @@ public final class GeneralClientConfig {
     /** Visible line count for the command editor's MultiLineEditBox. */
     public final ModConfigSpec.IntValue commandEditorVisibleLines;
 
+    /** Velocity-based selection on release (see gui.FlickTracker). */
+    public final ModConfigSpec.BooleanValue flickSelection;
+
+    /** Extra KeyMapping names (besides movement) that stay live while the radial is open. */
+    public final ModConfigSpec.ConfigValue<List<? extends String>> passthroughExtraMappings;
+
+    /** Smart order for the root page (categories carry their own flag). */
+    public final ModConfigSpec.BooleanValue smartOrderRoot;
+
+    /** Half-life of usage scores used by smart-order categories (see data.menu.UsageTracker). */
+    public final ModConfigSpec.IntValue smartOrderHalfLifeHours;
+
+    /** Outgoing command rate limiter (token bucket). */
+    public final ModConfigSpec.DoubleValue commandsPerSecond;
+    public final ModConfigSpec.IntValue commandBurst;
+    public final ModConfigSpec.IntValue commandQueueLimit;
+    public final ModConfigSpec.BooleanValue coalesceDuplicateCommands;
+
+    /** Client-side pre-parse of command lines (see util.CommandValidator). */
+    public final ModConfigSpec.BooleanValue validateCommands;
+
     static {
         Pair<GeneralClientConfig, ModConfigSpec> pair =
                 new ModConfigSpec.Builder().configure(GeneralClientConfig::new);
@@ -48,6 +77,78 @@ public final class GeneralClientConfig {
                 .translation("ezactions.config.commandEditorVisibleLines")
                 .defineInRange("commandEditorVisibleLines", 5, 1, 20);
 
+        flickSelection = b
+                .comment("When the hotkey is released during a fast flick, select the slice the cursor was heading for.")
+                .translation("ezactions.config.flickSelection")
+                .define("flickSelection", true);
+
+        passthroughExtraMappings = b
+                .comment(
+                        "Extra key mappings that keep working while the radial is open (requires moveWhileRadialOpen).",
+                        "Use mapping ids like \"key.attack\", \"key.use\"; a trailing '*' matches a prefix, e.g. \"key.hotbar.*\".",
+                        "Note: mappings bound to the left mouse button would also select slices."
+                )
+                .translation("ezactions.config.passthroughExtraMappings")
+                .defineListAllowEmpty("passthroughExtraMappings", List.of(), () -> "key.use", o -> o instanceof String);
+
+        smartOrderRoot = b
+                .comment("Order actions on the root page by recent use (categories have their own 'Smart order' toggle).")
+                .translation("ezactions.config.smartOrderRoot")
+                .define("smartOrderRoot", false);
+
+        smartOrderHalfLifeHours = b
+                .comment(
+                        "Categories with smart order sort actions by recent use. A use counts half as much after this many hours.",
+                        "Range: 1..8760, Default: 72"
+                )
+                .translation("ezactions.config.smartOrderHalfLifeHours")
+                .defineInRange("smartOrderHalfLifeHours", 72, 1, 8760);
+
+        b.pop();
+
+        b.push("commands");
+
+        commandsPerSecond = b
+                .comment(
+                        "Sustained rate at which queued commands are sent to the server.",
+                        "Vanilla servers tolerate about 1 command per second with a burst of ~10 before kicking for spam.",
+                        "Range: 0.05..100, Default: 1.0"
+                )
+                .translation("ezactions.config.commandsPerSecond")
+                .defineInRange("commandsPerSecond", 1.0D, 0.05D, 100.0D);
+
+        commandBurst = b
+                .comment(
+                        "How many commands may be sent back-to-back before the rate limit kicks in.",
+                        "Range: 1..200, Default: 8"
+                )
+                .translation("ezactions.config.commandBurst")
+                .defineInRange("commandBurst", 8, 1, 200);
+
+        commandQueueLimit = b
+                .comment(
+                        "Maximum number of commands waiting for a send slot; further commands are dropped.",
+                        "Range: 1..4096, Default: 256"
+                )
+                .translation("ezactions.config.commandQueueLimit")
+                .defineInRange("commandQueueLimit", 256, 1, 4096);
+
+        coalesceDuplicateCommands = b
+                .comment(
+                        "Drop a queued command if it is identical to the command queued right before it by a separate",
+                        "action run (e.g. spam-clicking). Repeated lines inside one command action are always kept."
+                )
+                .translation("ezactions.config.coalesceDuplicateCommands")
+                .define("coalesceDuplicateCommands", true);
+
+        validateCommands = b
+                .comment(
+                        "Check command lines against the command list the server sends and skip lines it would reject.",
+                        "Turn off if a server accepts commands it does not advertise to clients."
+                )
+                .translation("ezactions.config.validateCommands")
+                .define("validateCommands", true);
+
         b.pop();
     }
 
@@ -77,5 +178,98 @@ public final class GeneralClientConfig {
         }
     }
 
+    /** Defensive getter; never throws. */
+    public boolean flickSelection() {
+        try {
+            return flickSelection.get();
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (flickSelection): {}", Constants.MOD_NAME, t.toString());
+            return true;
+        }
+    }
+
+    /** Defensive getter; never throws, empty on error. */
+    public List<? extends String> passthroughExtraMappings() {
+        try {
+            List<? extends String> v = passthroughExtraMappings.get();
+            return v == null ? List.of() : v;
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (passthroughExtraMappings): {}", Constants.MOD_NAME, t.toString());
+            return List.of();
+        }
+    }
+
+    /** Defensive getter; never throws. */
+    public boolean smartOrderRoot() {
+        try {
+            return smartOrderRoot.get();
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (smartOrderRoot): {}", Constants.MOD_NAME, t.toString());
+            return false;
+        }
+    }
+
+    /** Defensive getter; clamps to [1..8760], default 72 on error. */
+    public int smartOrderHalfLifeHours() {
+        try {
+            return Math.max(1, Math.min(8760, smartOrderHalfLifeHours.get()));
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (smartOrderHalfLifeHours): {}", Constants.MOD_NAME, t.toString());
+            return 72;
+        }
+    }
+
+    /** Defensive getter; clamps to [0.05..100], default 1.0 on error. */
+    public double commandsPerSecond() {
+        try {
+            double v = commandsPerSecond.get();
+            if (Double.isNaN(v) || Double.isInfinite(v)) return 1.0D;
+            return Math.max(0.05D, Math.min(100.0D, v));
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (commandsPerSecond): {}", Constants.MOD_NAME, t.toString());
+            return 1.0D;
+        }
+    }
+
+    /** Defensive getter; clamps to [1..200], default 8 on error. */
+    public int commandBurst() {
+        try {
+            return Math.max(1, Math.min(200, commandBurst.get()));
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (commandBurst): {}", Constants.MOD_NAME, t.toString());
+            return 8;
+        }
+    }
+
+    /** Defensive getter; clamps to [1..4096], default 256 on error. */
+    public int commandQueueLimit() {
+        try {
+            return Math.max(1, Math.min(4096, commandQueueLimit.get()));
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (commandQueueLimit): {}", Constants.MOD_NAME, t.toString());
+            return 256;
+        }
+    }
+
+    /** Defensive getter; never throws. */
+    public boolean coalesceDuplicateCommands() {
+        try {
+            return coalesceDuplicateCommands.get();
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (coalesceDuplicateCommands): {}", Constants.MOD_NAME, t.toString());
+            return true;
+        }
+    }
+
+    /** Defensive getter; never throws. */
+    public boolean validateCommands() {
+        try {
+            return validateCommands.get();
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] GeneralClientConfig read failed (validateCommands): {}", Constants.MOD_NAME, t.toString());
+            return true;
+        }
+    }
+
     private GeneralClientConfig() { throw new AssertionError("unreachable"); }
 }
@@ -24,6 +24,13 @@ public final class RadialAnimConfig {
     public final ModConfigSpec.DoubleValue  hoverGrowPct;
     public final ModConfigSpec.IntValue     openCloseMs;
 
+    public final ModConfigSpec.EnumValue<QualityProfile> qualityProfile;
+    public final ModConfigSpec.DoubleValue  autoDowngradeMs;
+    public final ModConfigSpec.DoubleValue  autoUpgradeMs;
+
+    /** Radial render quality. AUTO steps between LOW/MEDIUM/HIGH based on measured frame time. */
+    public enum QualityProfile { LOW, MEDIUM, HIGH, AUTO }
+
     static {
         // Build CONFIG instance + SPEC in one go
         Pair<RadialAnimConfig, ModConfigSpec> pair =
@@ -61,6 +68,25 @@ public final class RadialAnimConfig {
                 .defineInRange("openCloseMs", 125, 0, 2000);
 
         b.pop();
+        b.push("quality");
+
+        qualityProfile = b
+                .comment("Radial render quality: LOW, MEDIUM, HIGH, or AUTO (adapts to measured radial frame time).",
+                        "LOW disables animations, uses coarse slices, static icons and no center label.")
+                .translation("ezactions.config.qualityProfile")
+                .defineEnum("qualityProfile", QualityProfile.AUTO);
+
+        autoDowngradeMs = b
+                .comment("AUTO: step quality down when the radial's average render time exceeds this (ms).")
+                .translation("ezactions.config.autoDowngradeMs")
+                .defineInRange("autoDowngradeMs", 4.0D, 0.5D, 50.0D);
+
+        autoUpgradeMs = b
+                .comment("AUTO: step quality back up when the average render time drops below this (ms).")
+                .translation("ezactions.config.autoUpgradeMs")
+                .defineInRange("autoUpgradeMs", 1.5D, 0.1D, 50.0D);
+
+        b.pop();
     }
 
     /** Convenience getters with clamping (defensive, never throws). */
@@ -89,6 +115,27 @@ public final class RadialAnimConfig {
         } catch (Throwable t) { log(t); return 125; }
     }
 
+    public QualityProfile qualityProfile() {
+        try {
+            QualityProfile v = qualityProfile.get();
+            return v == null ? QualityProfile.AUTO : v;
+        } catch (Throwable t) { log(t); return QualityProfile.AUTO; }
+    }
+    public double autoDowngradeMs() {
+        try {
+            double v = autoDowngradeMs.get();
+            if (Double.isNaN(v) || Double.isInfinite(v)) return 4.0D;
+            return Math.max(0.5D, Math.min(50.0D, v));
+        } catch (Throwable t) { log(t); return 4.0D; }
+    }
+    public double autoUpgradeMs() {
+        try {
+            double v = autoUpgradeMs.get();
+            if (Double.isNaN(v) || Double.isInfinite(v)) return 1.5D;
+            return Math.max(0.1D, Math.min(50.0D, v));
+        } catch (Throwable t) { log(t); return 1.5D; }
+    }
+
     private static void log(Throwable t) {
         Constants.LOG.debug("[{}] RadialAnimConfig read failed: {}", Constants.MOD_NAME, t.toString());
     }
@@ -5,6 +5,7 @@ import org.z2six.ezactions.Constants;
 
 /**
  * Read-only snapshot of animation settings, backed by the NeoForge TOML spec.
+ * {@link #get()} returns the view held by the current {@link ConfigSnapshot}, so edits apply live.
  * Never throws; falls back to sane defaults if the spec isn't available.
  */
 public final class RadialAnimConfigView {
@@ -15,31 +16,44 @@ public final class RadialAnimConfigView {
     public final double  hoverGrowPct;
     public final int     openCloseMs;
 
-    private static final RadialAnimConfigView INSTANCE = new RadialAnimConfigView();
+    public final RadialAnimConfig.QualityProfile qualityProfile;
+    /** AUTO thresholds in ms; upgrade is kept at or below downgrade. */
+    public final double  autoDowngradeMs;
+    public final double  autoUpgradeMs;
 
-    public static RadialAnimConfigView get() { return INSTANCE; }
+    public static RadialAnimConfigView get() { return ConfigSnapshot.get().anim; }
 
-    private RadialAnimConfigView() {
-        boolean ae = true, aoc = true, ah = true;
-        double  hgp = 0.05D;
-        int     ocm = 250;
+    /** Built-in defaults (used until the spec is loaded). */
+    static RadialAnimConfigView defaults() {
+        return new RadialAnimConfigView(true, true, true, 0.05D, 125,
+                RadialAnimConfig.QualityProfile.AUTO, 4.0D, 1.5D);
+    }
 
+    /** Read the current spec values. */
+    static RadialAnimConfigView fromSpec() {
         try {
             // Pull directly from the ModConfigSpec values.
             RadialAnimConfig c = RadialAnimConfig.CONFIG;
-            ae  = c.animationsEnabled();
-            aoc = c.animOpenClose();
-            ah  = c.animHover();
-            hgp = c.hoverGrowPct();
-            ocm = c.openCloseMs();
+            return new RadialAnimConfigView(c.animationsEnabled(), c.animOpenClose(), c.animHover(),
+                    c.hoverGrowPct(), c.openCloseMs(),
+                    c.qualityProfile(), c.autoDowngradeMs(), c.autoUpgradeMs());
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] RadialAnimConfigView: defaults in use ({}).", Constants.MOD_NAME, t.toString());
+            return defaults();
         }
+    }
 
-        this.animationsEnabled = ae;
-        this.animOpenClose     = aoc;
-        this.animHover         = ah;
-        this.hoverGrowPct      = hgp;
-        this.openCloseMs       = ocm;
+    private RadialAnimConfigView(boolean animationsEnabled, boolean animOpenClose, boolean animHover,
+                                 double hoverGrowPct, int openCloseMs,
+                                 RadialAnimConfig.QualityProfile qualityProfile,
+                                 double autoDowngradeMs, double autoUpgradeMs) {
+        this.animationsEnabled = animationsEnabled;
+        this.animOpenClose     = animOpenClose;
+        this.animHover         = animHover;
+        this.hoverGrowPct      = hoverGrowPct;
+        this.openCloseMs       = openCloseMs;
+        this.qualityProfile    = qualityProfile;
+        this.autoDowngradeMs   = autoDowngradeMs;
+        this.autoUpgradeMs     = Math.min(autoUpgradeMs, autoDowngradeMs);
     }
 }
@@ -4,131 +4,86 @@ package org.z2six.ezactions.config;
 import com.electronwill.nightconfig.core.Config;
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
 import com.electronwill.nightconfig.toml.TomlFormat;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
 import net.minecraft.client.Minecraft;
 import org.z2six.ezactions.Constants;
 
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 
-/** Separate config for radial look & feel. Now prefers ModConfigSpec (Configured-visible). */
+/**
+ * Separate config for radial look & feel. Values come from {@link DesignClientConfig} (Configured-visible).
+ *
+ * Instances are immutable (final fields): {@link #get()} returns the design part of the published
+ * {@link ConfigSnapshot}, rebuilt whenever the spec loads, reloads or is edited in-game. Legacy
+ * radial.json / flat TOML files are migrated by DesignClientConfig's load hook.
+ */
 public final class RadialConfig {
-    private static final Gson G = new GsonBuilder().setPrettyPrinting().create();
-    private static RadialConfig INSTANCE;
 
-    // Defaults
-    public int deadzone = 18;
-    public int baseOuterRadius = 72;
-    public int ringThickness = 28;
-    public int scaleStartThreshold = 8;
-    public int scalePerItem = 6;
-    public int ringColor = 0xAA000000;  // ARGB
-    public int hoverColor = 0xFFF20044; // ARGB
+    public final int deadzone;
+    public final int baseOuterRadius;
+    public final int ringThickness;
+    public final int scaleStartThreshold;
+    public final int scalePerItem;
+    public final int maxItemsPerRing;
+    public final int maxRings;
+    public final int ringColor;  // ARGB
+    public final int hoverColor; // ARGB
 
     private static final String NEW_FILE = "design-client.toml";
-    private static final String LEGACY_JSON = "radial.json";
 
-    private RadialConfig() {}
+    private RadialConfig(int deadzone, int baseOuterRadius, int ringThickness, int scaleStartThreshold,
+                         int scalePerItem, int maxItemsPerRing, int maxRings, int ringColor, int hoverColor) {
+        this.deadzone            = deadzone;
+        this.baseOuterRadius     = baseOuterRadius;
+        this.ringThickness       = ringThickness;
+        this.scaleStartThreshold = scaleStartThreshold;
+        this.scalePerItem        = scalePerItem;
+        this.maxItemsPerRing     = maxItemsPerRing;
+        this.maxRings            = maxRings;
+        this.ringColor           = ringColor;
+        this.hoverColor          = hoverColor;
+    }
 
+    /** Current design values (from the live config snapshot). */
     public static RadialConfig get() {
-        if (INSTANCE == null) {
-            INSTANCE = loadPreferringSpec();
-        }
-        return INSTANCE;
+        return ConfigSnapshot.get().design;
     }
 
-    // Prefer ModConfigSpec values
-    private static RadialConfig loadPreferringSpec() {
-        try {
-            if (DesignClientConfig.SPEC != null) {
-                RadialConfig c = new RadialConfig();
-                c.deadzone            = DesignClientConfig.deadzone.get();
-                c.baseOuterRadius     = DesignClientConfig.baseOuterRadius.get();
-                c.ringThickness       = DesignClientConfig.ringThickness.get();
-                c.scaleStartThreshold = DesignClientConfig.scaleStartThreshold.get();
-                c.scalePerItem        = DesignClientConfig.scalePerItem.get();
-                // CHANGED: read ints directly
-                c.ringColor           = DesignClientConfig.ringColor.get();
-                c.hoverColor          = DesignClientConfig.hoverColor.get();
-                return c;
-            }
-        } catch (Throwable t) {
-            Constants.LOG.debug("[{}] Spec not ready, falling back to file: {}", Constants.MOD_NAME, t.toString());
-        }
-        return loadOrCreateFromFile();
+    /** Built-in defaults (used until the spec is loaded). */
+    static RadialConfig defaults() {
+        return new RadialConfig(18, 72, 28, 8, 6, 20, 2, 0xAA000000, 0xFFF20044);
     }
 
-    // File-based fallback (unchanged except colors now read as number OR string)
-    private static RadialConfig loadOrCreateFromFile() {
-        Path toml = tomlFile();
-        Path legacy = legacyFile();
-
-        if (Files.exists(toml)) {
-            try (CommentedFileConfig cfg = CommentedFileConfig.of(toml, TomlFormat.instance())) {
-                cfg.load();
-                RadialConfig c = new RadialConfig();
-                c.deadzone            = getInt(cfg, "deadzone",            c.deadzone);
-                c.baseOuterRadius     = getInt(cfg, "baseOuterRadius",     c.baseOuterRadius);
-                c.ringThickness       = getInt(cfg, "ringThickness",       c.ringThickness);
-                c.scaleStartThreshold = getInt(cfg, "scaleStartThreshold", c.scaleStartThreshold);
-                c.scalePerItem        = getInt(cfg, "scalePerItem",        c.scalePerItem);
-                c.ringColor           = getColor(cfg, "ringColor",         c.ringColor);
-                c.hoverColor          = getColor(cfg, "hoverColor",        c.hoverColor);
-                return c;
-            } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Failed to load {}: {} (writing defaults)", Constants.MOD_NAME, toml, t.toString());
-                RadialConfig c = new RadialConfig();
-                save(c);
-                return c;
-            }
-        }
-
-        if (Files.exists(legacy)) {
-            try (Reader r = Files.newBufferedReader(legacy, StandardCharsets.UTF_8)) {
-                JsonObject o = G.fromJson(r, JsonObject.class);
-                RadialConfig c = new RadialConfig();
-                if (o != null) {
-                    if (o.has("deadzone"))            c.deadzone = safeInt(o.get("deadzone"),            c.deadzone);
-                    if (o.has("baseOuterRadius"))     c.baseOuterRadius = safeInt(o.get("baseOuterRadius"), c.baseOuterRadius);
-                    if (o.has("ringThickness"))       c.ringThickness = safeInt(o.get("ringThickness"),   c.ringThickness);
-                    if (o.has("scaleStartThreshold")) c.scaleStartThreshold = safeInt(o.get("scaleStartThreshold"), c.scaleStartThreshold);
-                    if (o.has("scalePerItem"))        c.scalePerItem = safeInt(o.get("scalePerItem"),     c.scalePerItem);
-                    if (o.has("ringColor"))           c.ringColor  = parseColor(o.get("ringColor").getAsString(),  c.ringColor);
-                    if (o.has("hoverColor"))          c.hoverColor = parseColor(o.get("hoverColor").getAsString(), c.hoverColor);
-                }
-                save(c);
-                try { Files.move(legacy, legacy.resolveSibling("radial.json.bak"), StandardCopyOption.REPLACE_EXISTING); }
-                catch (Throwable ignore) {}
-                return c;
-            } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Failed to migrate {}: {}", Constants.MOD_NAME, legacy, t.toString());
-                RadialConfig c = new RadialConfig();
-                save(c);
-                return c;
-            }
-        }
-
-        RadialConfig c = new RadialConfig();
-        save(c);
-        return c;
+    /** Read the ModConfigSpec values; throws if the spec is not loaded yet. */
+    static RadialConfig fromSpec() {
+        return new RadialConfig(
+                DesignClientConfig.deadzone.get(),
+                DesignClientConfig.baseOuterRadius.get(),
+                DesignClientConfig.ringThickness.get(),
+                DesignClientConfig.scaleStartThreshold.get(),
+                DesignClientConfig.scalePerItem.get(),
+                DesignClientConfig.maxItemsPerRing.get(),
+                DesignClientConfig.maxRings.get(),
+                DesignClientConfig.ringColor.get(),
+                DesignClientConfig.hoverColor.get());
     }
 
-    public static void save(RadialConfig c) {
+    /** Write design values (through the spec when available) and publish a new snapshot. */
+    public static void save(int deadzone, int baseOuterRadius, int ringThickness, int scaleStartThreshold,
+                            int scalePerItem, int maxItemsPerRing, int maxRings, int ringColor, int hoverColor) {
         // Prefer writing through the SPEC
         try {
             if (DesignClientConfig.SPEC != null) {
-                DesignClientConfig.deadzone.set(c.deadzone);
-                DesignClientConfig.baseOuterRadius.set(c.baseOuterRadius);
-                DesignClientConfig.ringThickness.set(c.ringThickness);
-                DesignClientConfig.scaleStartThreshold.set(c.scaleStartThreshold);
-                DesignClientConfig.scalePerItem.set(c.scalePerItem);
-                DesignClientConfig.ringColor.set(c.ringColor);
-                DesignClientConfig.hoverColor.set(c.hoverColor);
+                DesignClientConfig.deadzone.set(deadzone);
+                DesignClientConfig.baseOuterRadius.set(baseOuterRadius);
+                DesignClientConfig.ringThickness.set(ringThickness);
+                DesignClientConfig.scaleStartThreshold.set(scaleStartThreshold);
+                DesignClientConfig.scalePerItem.set(scalePerItem);
+                DesignClientConfig.maxItemsPerRing.set(maxItemsPerRing);
+                DesignClientConfig.maxRings.set(maxRings);
+                DesignClientConfig.ringColor.set(ringColor);
+                DesignClientConfig.hoverColor.set(hoverColor);
+                ConfigSnapshot.rebuild();
                 return; // NeoForge persists
             }
         } catch (Throwable t) {
@@ -140,13 +95,15 @@ public final class RadialConfig {
         try {
             Files.createDirectories(f.getParent());
             Config root = Config.of(TomlFormat.instance());
-            root.set("deadzone",            c.deadzone);
-            root.set("baseOuterRadius",     c.baseOuterRadius);
-            root.set("ringThickness",       c.ringThickness);
-            root.set("scaleStartThreshold", c.scaleStartThreshold);
-            root.set("scalePerItem",        c.scalePerItem);
-            root.set("ringColor",           c.ringColor);
-            root.set("hoverColor",          c.hoverColor);
+            root.set("deadzone",            deadzone);
+            root.set("baseOuterRadius",     baseOuterRadius);
+            root.set("ringThickness",       ringThickness);
+            root.set("scaleStartThreshold", scaleStartThreshold);
+            root.set("scalePerItem",        scalePerItem);
+            root.set("maxItemsPerRing",     maxItemsPerRing);
+            root.set("maxRings",            maxRings);
+            root.set("ringColor",           ringColor);
+            root.set("hoverColor",          hoverColor);
 
             try (CommentedFileConfig cfg = CommentedFileConfig.builder(f, TomlFormat.instance())
                     .sync().preserveInsertionOrder().build()) {
@@ -168,45 +125,4 @@ public final class RadialConfig {
             return Path.of("config", Constants.MOD_ID, NEW_FILE);
         }
     }
-    private static Path legacyFile() {
-        try {
-            Path game = Minecraft.getInstance().gameDirectory.toPath();
-            return game.resolve("config").resolve(Constants.MOD_ID).resolve(LEGACY_JSON);
-        } catch (Throwable t) {
-            return Path.of("config", Constants.MOD_ID, LEGACY_JSON);
-        }
-    }
-    private static int getInt(CommentedFileConfig cfg, String key, int dflt) {
-        try {
-            Object v = cfg.get(key);
-            if (v instanceof Number n) return n.intValue();
-            if (v instanceof String s) return Integer.parseInt(s.trim());
-        } catch (Throwable ignored) {}
-        return dflt;
-    }
-    private static int getColor(CommentedFileConfig cfg, String key, int dflt) {
-        try {
-            Object v = cfg.get(key);
-            if (v instanceof Number n) return n.intValue();
-            if (v instanceof String s) return parseColor(s, dflt);
-        } catch (Throwable ignored) {}
-        return dflt;
-    }
-    private static int parseColor(String s, int fallback) {
-        try {
-            String t = s == null ? "" : s.trim();
-            if (t.isEmpty()) return fallback;
-            if (t.startsWith("0x") || t.startsWith("0X")) t = t.substring(2);
-            else if (t.startsWith("#")) t = t.substring(1);
-            if (t.matches("(?i)^[0-9a-f]{6}$")) t = "FF" + t; // add opaque alpha
-            long val = Long.parseUnsignedLong(t, 16);
-            return (int) val;
-        } catch (Throwable e) {
-            Constants.LOG.warn("[{}] Bad color literal '{}'; using fallback 0x{}", Constants.MOD_NAME, s, Integer.toHexString(fallback));
-            return fallback;
-        }
-    }
-    private static int safeInt(com.google.gson.JsonElement el, int dflt) {
-        try { return el.getAsInt(); } catch (Throwable ignored) { return dflt; }
-    }
 }
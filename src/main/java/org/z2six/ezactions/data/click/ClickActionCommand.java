@@ -6,13 +6,20 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.GeneralClientConfig;
+import org.z2six.ezactions.util.CommandDispatcher;
 import org.z2six.ezactions.util.CommandSequencer;
+import org.z2six.ezactions.util.CommandValidator;
 
 /**
  * Runs one or more server commands from the client using the proper command path so the
  * client can sign message/component arguments when required (e.g. "say", "tellraw").
  * Lines are treated as separate commands. Pass commands WITH or WITHOUT a leading '/';
- * we'll strip it before sending.
+ * we'll strip it before sending. Each line is compiled once into a {@link CommandTemplate},
+ * so placeholders like {x} or {held} are filled in at execution without re-parsing.
+ * Lines the client-side command tree rejects (see {@link CommandValidator}) are skipped
+ * instead of being sent, unless validation is disabled in the config; the player is told how
+ * many were skipped.
  *
  * Crash-safe: all failures are logged and return false.
  */
@@ -20,6 +27,15 @@ public final class ClickActionCommand implements IClickAction {
 
     private final String commandRaw; // as stored (may include newlines and/or leading '/')
     private final int delayTicks;    // 0 = no delay; >0 => schedule with sequencer
+    private final CommandTemplate[] templates; // compiled once from commandRaw (never changes)
+
+    // Mutable cache (client thread only, not serialized): per-line validation verdicts for
+    // variable-free lines, valid for one command tree.
+    private boolean[] invalid;
+    private int checkedTree = -1;
+
+    /** Render buffer shared by all command actions (client thread only). */
+    private static final StringBuilder RENDER_BUF = new StringBuilder(128);
 
     public ClickActionCommand(String command) {
         this(command, 0);
@@ -28,6 +44,9 @@ public final class ClickActionCommand implements IClickAction {
     public ClickActionCommand(String command, int delayTicks) {
         this.commandRaw = command == null ? "" : command.trim();
         this.delayTicks = Math.max(0, delayTicks);
+        String[] lines = splitLinesNormalized(this.commandRaw);
+        this.templates = new CommandTemplate[lines.length];
+        for (int i = 0; i < lines.length; i++) this.templates[i] = CommandTemplate.compile(lines[i]);
     }
 
     // --- Expose fields for editors/serialization helpers ----
@@ -41,6 +60,25 @@ public final class ClickActionCommand implements IClickAction {
     /** Per-action delay between lines in ticks (0 = immediate). */
     public int getDelayTicks() { return this.delayTicks; }
 
+    /** True if line {@code i} parsed as invalid against the current tree (variable-free lines only). */
+    private boolean knownInvalid(Minecraft mc, int i) {
+        int tree = CommandValidator.treeVersion();
+        if (invalid == null || checkedTree != tree) {
+            boolean[] v = new boolean[templates.length];
+            for (int k = 0; k < templates.length; k++) {
+                if (templates[k].hasVariables()) continue;
+                CommandValidator.Result r = CommandValidator.check(mc, templates[k].source());
+                if (r.isInvalid()) {
+                    v[k] = true;
+                    Constants.LOG.warn("[{}] Command line '{}' is invalid here: {}", Constants.MOD_NAME, templates[k].source(), r.message());
+                }
+            }
+            invalid = v;
+            checkedTree = CommandValidator.treeVersion(); // check() may have synced a new tree
+        }
+        return invalid[i];
+    }
+
     // --- IClickAction --------------------------------------------------------
 
     @Override
@@ -74,37 +112,97 @@ public final class ClickActionCommand implements IClickAction {
                 return false;
             }
 
-            final String[] lines = splitLinesNormalized(this.commandRaw);
-            if (lines.length == 0) {
+            if (templates.length == 0) {
                 Constants.LOG.warn("[{}] Command execute: empty command.", Constants.MOD_NAME);
                 return false;
             }
 
+            // Variables read the world, so render on the client thread.
+            if (mc.isSameThread()) {
+                return dispatch(mc);
+            }
+            mc.execute(() -> dispatch(mc));
+            return true;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Command execute error for '{}': {}", Constants.MOD_NAME, commandRaw, t.toString());
+            return false;
+        }
+    }
+
+    /** Pre-parse the variable-free lines so execution already knows which ones to skip. */
+    @Override
+    public void warm(Minecraft mc) {
+        try {
+            if (templates.length > 0) knownInvalid(mc, 0);
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] ClickActionCommand warm failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /**
+     * Render every line with the current context and hand it to the dispatcher/sequencer.
+     * Returns false when nothing could be sent.
+     */
+    private boolean dispatch(Minecraft mc) {
+        try {
+            final boolean validate = GeneralClientConfig.CONFIG.validateCommands();
+            String[] lines = new String[templates.length];
+            int count = 0;
+            for (int i = 0; i < templates.length; i++) {
+                CommandTemplate tpl = templates[i];
+                if (validate && !tpl.hasVariables() && knownInvalid(mc, i)) continue;
+
+                String line = tpl.render(mc, RENDER_BUF);
+                if (line == null) {
+                    Constants.LOG.warn("[{}] Command execute: cannot resolve variables (no player/level).", Constants.MOD_NAME);
+                    return false;
+                }
+                if (validate && tpl.hasVariables()) {
+                    CommandValidator.Result r = CommandValidator.check(mc, line);
+                    if (r.isInvalid()) {
+                        Constants.LOG.warn("[{}] Skipping invalid command '{}': {}", Constants.MOD_NAME, line, r.message());
+                        continue;
+                    }
+                }
+                lines[count++] = line;
+            }
+            final int skipped = templates.length - count;
+            if (skipped > 0) reportSkipped(mc, skipped);
+            if (count == 0) {
+                Constants.LOG.warn("[{}] Command execute: no valid lines in '{}'.", Constants.MOD_NAME, commandRaw);
+                return false;
+            }
+            if (count < lines.length) lines = java.util.Arrays.copyOf(lines, count);
+
             final int dly = this.delayTicks;
             if (dly <= 0 || lines.length == 1) {
-                // Immediate dispatch on the client thread
-                mc.execute(() -> {
-                    for (String cmd : lines) {
-                        try {
-                            player.connection.sendCommand(cmd);
-                            Constants.LOG.debug("[{}] Sent command: {}", Constants.MOD_NAME, cmd);
-                        } catch (Throwable t) {
-                            Constants.LOG.warn("[{}] sendCommand failed for '{}': {}", Constants.MOD_NAME, cmd, t.toString());
-                        }
-                    }
-                });
+                // Immediate dispatch; the dispatcher sends what the token bucket allows right away
+                // and spreads the rest over the next ticks.
+                int submission = CommandDispatcher.newSubmission();
+                for (String cmd : lines) CommandDispatcher.submit(cmd, submission);
             } else {
-                // Schedule with a per-line delay
+                // Schedule with a per-line delay; variables are resolved at trigger time
                 CommandSequencer.enqueue(lines, dly);
                 Constants.LOG.debug("[{}] Enqueued {} commands with {} tick(s) delay.", Constants.MOD_NAME, lines.length, dly);
             }
             return true;
         } catch (Throwable t) {
-            Constants.LOG.warn("[{}] Command execute error for '{}': {}", Constants.MOD_NAME, commandRaw, t.toString());
+            Constants.LOG.warn("[{}] Command dispatch error for '{}': {}", Constants.MOD_NAME, commandRaw, t.toString());
             return false;
         }
     }
 
+    /** Log and show (action bar) how many lines validation skipped. */
+    private void reportSkipped(Minecraft mc, int skipped) {
+        String msg = "Skipped " + skipped + " of " + templates.length + " command line(s) the server would reject";
+        Constants.LOG.warn("[{}] {}: '{}'", Constants.MOD_NAME, msg, commandRaw);
+        try {
+            if (mc.player != null) mc.player.displayClientMessage(Component.literal(msg + " (see log)."), true);
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Could not show skipped-lines notice: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
     // --- JSON ----------------------------------------------------------------
 
     @Override
@@ -133,7 +231,8 @@ public final class ClickActionCommand implements IClickAction {
 
     // --- Helpers -------------------------------------------------------------
 
-    private static String[] splitLinesNormalized(String raw) {
+    /** Split into trimmed, non-empty lines without leading '/'. */
+    public static String[] splitLinesNormalized(String raw) {
         if (raw == null) return new String[0];
         String[] in = raw.replace("\r", "").split("\n");
         java.util.ArrayList<String> out = new java.util.ArrayList<>(in.length);
@@ -1,46 +1,138 @@
 // MainFile: src/main/java/org/z2six/ezactions/data/click/ClickActionKey.java
 package org.z2six.ezactions.data.click;
 
+import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.helper.InputInjector;
+import org.z2six.ezactions.helper.KeyboardHandlerHelper;
 
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 /**
  * // MainFile: ClickActionKey.java
  *
  * Executes a KeyMapping by name (translation key like "key.inventory" or localized label "Inventory").
  * Supports AUTO/INPUT/TICK delivery and optional toggle.
+ *
+ * Besides a plain tap, a key action can hold or repeat the mapping on the client tick scheduler
+ * (see {@link KeyboardHandlerHelper}). Those modes drive the mapping state directly, like TICK delivery.
+ *
+ * The resolved KeyMapping is cached per language (name lookups can fall back to localized labels),
+ * and {@link #warm} fills that cache ahead of time.
  */
 public final class ClickActionKey implements IClickAction {
 
+    /** How the mapping is pressed. */
+    public enum HoldMode {
+        /** Single tap using the configured delivery mode (default). */
+        TAP,
+        /** Hold for {@code holdTicks} ticks. */
+        HOLD_TICKS,
+        /**
+         * Hold while the key that triggered the action stays down (at least one tick): the item's
+         * own hotkey, or the radial hotkey when a slice is clicked. When the run was triggered by
+         * releasing the radial hotkey there is no key left to follow, so it holds {@code holdTicks}.
+         */
+        HOLD_WHILE_HOTKEY,
+        /** Press every {@code holdTicks} ticks, {@code repeatCount} times. */
+        REPEAT
+    }
+
     private final String mappingName; // e.g. "key.inventory" or "Inventory"
     private final boolean toggle;
     private final InputInjector.DeliveryMode mode;
+    private final HoldMode holdMode;
+    private final int holdTicks;      // HOLD_TICKS: duration; REPEAT: interval
+    private final int repeatCount;    // REPEAT only
+
+    // Resolution cache (client thread only; not serialized)
+    private KeyMapping resolved = null;
+    private String resolvedLang = null;
 
     public ClickActionKey(String mappingName, boolean toggle, InputInjector.DeliveryMode mode) {
+        this(mappingName, toggle, mode, HoldMode.TAP, 1, 1);
+    }
+
+    public ClickActionKey(String mappingName, boolean toggle, InputInjector.DeliveryMode mode,
+                          HoldMode holdMode, int holdTicks, int repeatCount) {
         this.mappingName = Objects.requireNonNull(mappingName);
         this.toggle = toggle;
         this.mode = (mode == null) ? InputInjector.DeliveryMode.AUTO : mode;
+        this.holdMode = (holdMode == null) ? HoldMode.TAP : holdMode;
+        this.holdTicks = Math.max(1, holdTicks);
+        this.repeatCount = Math.max(1, repeatCount);
     }
 
     public String mappingName() { return mappingName; }
     public boolean toggle() { return toggle; }
     public InputInjector.DeliveryMode mode() { return mode; }
+    public HoldMode holdMode() { return holdMode; }
+    public int holdTicks() { return holdTicks; }
+    public int repeatCount() { return repeatCount; }
 
     @Override
     public boolean execute(Minecraft mc) {
+        return execute(mc, null);
+    }
+
+    @Override
+    public boolean execute(Minecraft mc, BooleanSupplier triggerHeld) {
         try {
-            Constants.LOG.info("[{}] Key tap: '{}'", Constants.MOD_NAME, mappingName);
-            return InputInjector.deliver(mappingName, toggle, mode);
+            KeyMapping km = mapping(mc);
+            if (holdMode == HoldMode.TAP) {
+                Constants.LOG.info("[{}] Key tap: '{}'", Constants.MOD_NAME, mappingName);
+                return (km != null)
+                        ? InputInjector.deliverKey(km, null, null, 0, toggle, mode)
+                        : InputInjector.deliver(mappingName, toggle, mode); // logs why it was not found
+            }
+
+            if (km == null) {
+                Constants.LOG.warn("[{}] Key {}: mapping '{}' not found.", Constants.MOD_NAME, holdMode, mappingName);
+                return false;
+            }
+            Constants.LOG.info("[{}] Key {}: '{}' (ticks={}, count={})", Constants.MOD_NAME, holdMode, mappingName, holdTicks, repeatCount);
+            switch (holdMode) {
+                case HOLD_TICKS -> KeyboardHandlerHelper.enqueueHold(km, holdTicks);
+                case HOLD_WHILE_HOTKEY -> {
+                    if (triggerHeld != null && triggerHeld.getAsBoolean()) {
+                        KeyboardHandlerHelper.enqueueHoldWhile(km, triggerHeld);
+                    } else {
+                        Constants.LOG.info("[{}] Key {}: trigger already released, holding '{}' for {} tick(s).",
+                                Constants.MOD_NAME, holdMode, mappingName, holdTicks);
+                        KeyboardHandlerHelper.enqueueHold(km, holdTicks);
+                    }
+                }
+                case REPEAT -> KeyboardHandlerHelper.enqueueRepeat(km, holdTicks, repeatCount);
+                default -> { return false; }
+            }
+            return true;
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] ClickActionKey execute failed '{}': {}", Constants.MOD_NAME, mappingName, t.toString());
             return false;
         }
     }
 
+    @Override
+    public void warm(Minecraft mc) {
+        try {
+            mapping(mc);
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] ClickActionKey warm failed '{}': {}", Constants.MOD_NAME, mappingName, t.toString());
+        }
+    }
+
+    /** Resolved mapping, cached until the game language changes; null if it does not resolve. */
+    private KeyMapping mapping(Minecraft mc) {
+        String lang = (mc == null || mc.options == null) ? "" : mc.options.languageCode;
+        if (resolved != null && Objects.equals(lang, resolvedLang)) return resolved;
+        resolved = InputInjector.resolveMapping(mappingName);
+        resolvedLang = lang;
+        return resolved;
+    }
+
     @Override
     public ClickActionType getType() {
         return ClickActionType.KEY;
@@ -64,6 +156,11 @@ public final class ClickActionKey implements IClickAction {
         o.addProperty("name", mappingName);
         o.addProperty("toggle", toggle);
         o.addProperty("mode", mode.name());
+        if (holdMode != HoldMode.TAP) { // absent => TAP (backward compatible)
+            o.addProperty("hold", holdMode.name());
+            o.addProperty("holdTicks", holdTicks);
+            o.addProperty("repeatCount", repeatCount);
+        }
         return o;
     }
 
@@ -75,6 +172,17 @@ public final class ClickActionKey implements IClickAction {
             try { dm = InputInjector.DeliveryMode.valueOf(o.get("mode").getAsString()); }
             catch (IllegalArgumentException ignored) {}
         }
-        return new ClickActionKey(name, tog, dm);
+        HoldMode hm = HoldMode.TAP;
+        if (o.has("hold")) {
+            try { hm = HoldMode.valueOf(o.get("hold").getAsString()); }
+            catch (IllegalArgumentException ignored) {}
+        }
+        int ticks = 1;
+        int count = 1;
+        try {
+            if (o.has("holdTicks")) ticks = o.get("holdTicks").getAsInt();
+            if (o.has("repeatCount")) count = o.get("repeatCount").getAsInt();
+        } catch (Throwable ignored) {}
+        return new ClickActionKey(name, tog, dm, hm, ticks, count);
     }
 }
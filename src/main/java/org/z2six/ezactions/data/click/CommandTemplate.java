@@ -0,0 +1,166 @@
+// MainFile: src/main/java/org/z2six/ezactions/data/click/CommandTemplate.java
+package org.z2six.ezactions.data.click;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One command line compiled into literal text and runtime variables, e.g.
+ * "tp @s {x} {y+10} {z}" -> ["tp @s ", X, " ", Y(+10), " ", Z].
+ *
+ * Variables (all from the local player at execution time):
+ *   {x} {y} {z}                             block position
+ *   {target_x} {target_y} {target_z}        looked-at block (falls back to the player's position)
+ *   {target_block}                          looked-at block id (minecraft:air when none)
+ *   {held}                                  main-hand item id
+ *   {slot}                                  selected hotbar slot (0..8)
+ *   {player}                                player name
+ *   {dim}                                   dimension id
+ * Coordinate variables accept an integer offset: {y+1}, {target_x-2}.
+ *
+ * Anything else in braces stays literal, so JSON/NBT arguments ({"text":"hi"}) are untouched.
+ * Templates are compiled once (when the action is built) and rendered into a caller-provided
+ * StringBuilder; a line without variables renders as its precomputed string.
+ */
+public final class CommandTemplate {
+
+    private enum Var {
+        X, Y, Z, TARGET_X, TARGET_Y, TARGET_Z, TARGET_BLOCK, HELD, SLOT, PLAYER, DIM;
+
+        final String key = name().toLowerCase(Locale.ROOT);
+
+        boolean isCoordinate() {
+            return ordinal() <= TARGET_Z.ordinal();
+        }
+
+        static Var byKey(String key) {
+            for (Var v : values()) if (v.key.equals(key)) return v;
+            return null;
+        }
+    }
+
+    /** Placeholder names shown by the editor. */
+    public static final String HELP = "{x} {y} {z} {target_x} {target_y} {target_z} {target_block} {held} {slot} {player} {dim}";
+
+    // Parallel arrays: literal[i] is emitted before var[i]; the last literal has no variable after it.
+    private final String[] literals;
+    private final Var[] vars;
+    private final int[] offsets;
+    private final String constant; // non-null when the line has no variables
+    private final String source;
+
+    private CommandTemplate(String source, String[] literals, Var[] vars, int[] offsets) {
+        this.source = source;
+        this.literals = literals;
+        this.vars = vars;
+        this.offsets = offsets;
+        this.constant = vars.length == 0 ? literals[0] : null;
+    }
+
+    /** The line this template was compiled from. */
+    public String source() {
+        return source;
+    }
+
+    /** True when the line contains at least one variable. */
+    public boolean hasVariables() {
+        return constant == null;
+    }
+
+    /** Compile one normalized command line (no leading '/'). Never throws. */
+    public static CommandTemplate compile(String line) {
+        String s = (line == null) ? "" : line;
+        List<String> lits = new ArrayList<>();
+        List<Var> vs = new ArrayList<>();
+        List<Integer> offs = new ArrayList<>();
+
+        StringBuilder lit = new StringBuilder();
+        int i = 0;
+        final int n = s.length();
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c == '{') {
+                int close = s.indexOf('}', i + 1);
+                if (close > i) {
+                    String body = s.substring(i + 1, close);
+                    int sign = Math.max(body.indexOf('+'), body.indexOf('-'));
+                    String name = (sign > 0) ? body.substring(0, sign) : body;
+                    Var v = Var.byKey(name);
+                    Integer off = 0;
+                    if (v != null && sign > 0) {
+                        off = v.isCoordinate() ? parseOffset(body.substring(sign)) : null;
+                    }
+                    if (v != null && off != null) {
+                        lits.add(lit.toString());
+                        lit.setLength(0);
+                        vs.add(v);
+                        offs.add(off);
+                        i = close + 1;
+                        continue;
+                    }
+                }
+            }
+            lit.append(c);
+            i++;
+        }
+        lits.add(lit.toString());
+
+        int[] offArr = new int[offs.size()];
+        for (int k = 0; k < offArr.length; k++) offArr[k] = offs.get(k);
+        return new CommandTemplate(s, lits.toArray(new String[0]), vs.toArray(new Var[0]), offArr);
+    }
+
+    /**
+     * Render with the current player context. {@code sb} is cleared and reused by the caller.
+     * Returns null when a variable cannot be resolved (no player/level).
+     */
+    public String render(Minecraft mc, StringBuilder sb) {
+        if (constant != null) return constant;
+        LocalPlayer p = (mc == null) ? null : mc.player;
+        if (p == null || mc.level == null) return null;
+
+        BlockPos feet = p.blockPosition();
+        BlockPos target = null;
+        HitResult hr = mc.hitResult;
+        if (hr instanceof BlockHitResult bhr && hr.getType() == HitResult.Type.BLOCK) target = bhr.getBlockPos();
+
+        sb.setLength(0);
+        for (int k = 0; k < vars.length; k++) {
+            sb.append(literals[k]);
+            int off = offsets[k];
+            switch (vars[k]) {
+                case X -> sb.append(feet.getX() + off);
+                case Y -> sb.append(feet.getY() + off);
+                case Z -> sb.append(feet.getZ() + off);
+                case TARGET_X -> sb.append((target != null ? target : feet).getX() + off);
+                case TARGET_Y -> sb.append((target != null ? target : feet).getY() + off);
+                case TARGET_Z -> sb.append((target != null ? target : feet).getZ() + off);
+                case TARGET_BLOCK -> sb.append(target == null
+                        ? "minecraft:air"
+                        : BuiltInRegistries.BLOCK.getKey(mc.level.getBlockState(target).getBlock()));
+                case HELD -> sb.append(BuiltInRegistries.ITEM.getKey(p.getMainHandItem().getItem()));
+                case SLOT -> sb.append(p.getInventory().selected);
+                case PLAYER -> sb.append(p.getGameProfile().getName());
+                case DIM -> sb.append(mc.level.dimension().location());
+            }
+        }
+        sb.append(literals[vars.length]);
+        return sb.toString();
+    }
+
+    private static Integer parseOffset(String s) {
+        try {
+            return Integer.parseInt(s.startsWith("+") ? s.substring(1) : s);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
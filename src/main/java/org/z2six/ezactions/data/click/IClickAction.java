@@ -6,6 +6,8 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * Contract for all click actions (key press, command, use item, etc).
  * Implementations must be null-safe: never crash; log and return false on failure.
@@ -29,6 +31,21 @@ public interface IClickAction {
      */
     boolean execute(Minecraft mc);
 
+    /**
+     * Execute knowing the input that triggered this run: {@code triggerHeld} reports whether that key
+     * is still physically held, or is null when the trigger is already over (e.g. the radial hotkey
+     * was released). Only actions that hold keys care; the default ignores it. MUST NOT throw.
+     */
+    default boolean execute(Minecraft mc, BooleanSupplier triggerHeld) {
+        return execute(mc);
+    }
+
+    /**
+     * Optional: do lookups ahead of time (e.g. resolve a key mapping) so a later {@link #execute}
+     * is cheap. Called for likely-next actions when the radial opens. MUST NOT throw.
+     */
+    default void warm(Minecraft mc) {}
+
     /** Serialize this action to JSON for persistence. MUST NOT throw. */
     JsonObject serialize();
 
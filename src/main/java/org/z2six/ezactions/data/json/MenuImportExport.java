@@ -26,6 +26,10 @@ import java.util.List;
  *  - Validates by deserializing each element via MenuItem.deserialize()
  *  - On full success, replaces root and persists to disk
  *
+ * Copy/paste (editor selections):
+ *  - copyItemsToClipboard writes the same array shape for just the given items
+ *  - readItemsFromClipboard parses it back without touching the model
+ *
  * All methods are crash-safe: they catch and log exceptions and return booleans.
  */
 public final class MenuImportExport {
@@ -81,12 +85,43 @@ public final class MenuImportExport {
      * @return number of items imported (>=0) on success, -1 on failure.
      */
     public static int importFromClipboard() {
+        try {
+            List<MenuItem> fresh = readItemsFromClipboard();
+            if (fresh == null) return -1;
+
+            // Success: replace model and persist
+            try {
+                List<MenuItem> live = RadialMenu.rootMutable();
+                live.clear();
+                live.addAll(fresh);
+                RadialMenu.persist();
+            } catch (Throwable t) {
+                Constants.LOG.warn("[{}] Import: failed to persist: {}", Constants.MOD_NAME, t.toString());
+                safeStatusMessage("Import failed while saving.");
+                return -1;
+            }
+
+            Constants.LOG.info("[{}] Imported {} items from clipboard.", Constants.MOD_NAME, fresh.size());
+            safeStatusMessage("Imported " + fresh.size() + " items from clipboard.");
+            return fresh.size();
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Import failed: {}", Constants.MOD_NAME, t.toString());
+            safeStatusMessage("Import failed (see log).");
+            return -1;
+        }
+    }
+
+    /**
+     * Parse clipboard JSON (an array of MenuItem objects) without changing the model.
+     * @return the items, or null (with a status message) when the clipboard is unusable.
+     */
+    public static List<MenuItem> readItemsFromClipboard() {
         try {
             String text = ClipboardIO.getClipboard();
             if (text == null || text.trim().isEmpty()) {
                 Constants.LOG.info("[{}] Import: clipboard empty.", Constants.MOD_NAME);
                 safeStatusMessage("Clipboard is empty.");
-                return -1;
+                return null;
             }
 
             JsonElement rootEl;
@@ -95,13 +130,13 @@ public final class MenuImportExport {
             } catch (Throwable parseEx) {
                 Constants.LOG.info("[{}] Import: clipboard not JSON: {}", Constants.MOD_NAME, parseEx.toString());
                 safeStatusMessage("Clipboard doesn't contain JSON.");
-                return -1;
+                return null;
             }
 
             if (!rootEl.isJsonArray()) {
                 Constants.LOG.info("[{}] Import: root must be an array.", Constants.MOD_NAME);
                 safeStatusMessage("Import failed: root JSON is not an array.");
-                return -1;
+                return null;
             }
 
             JsonArray arr = rootEl.getAsJsonArray();
@@ -114,7 +149,7 @@ public final class MenuImportExport {
                 if (!el.isJsonObject()) {
                     Constants.LOG.info("[{}] Import: entry #{} is not an object, aborting.", Constants.MOD_NAME, idx);
                     safeStatusMessage("Import failed: entry #" + idx + " not an object.");
-                    return -1;
+                    return null;
                 }
                 JsonObject obj = el.getAsJsonObject();
                 try {
@@ -124,28 +159,33 @@ public final class MenuImportExport {
                 } catch (Throwable t) {
                     Constants.LOG.info("[{}] Import: entry #{} invalid: {}", Constants.MOD_NAME, idx, t.toString());
                     safeStatusMessage("Import failed: entry #" + idx + " invalid.");
-                    return -1;
+                    return null;
                 }
             }
+            return fresh;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Reading clipboard items failed: {}", Constants.MOD_NAME, t.toString());
+            safeStatusMessage("Import failed (see log).");
+            return null;
+        }
+    }
 
-            // Success: replace model and persist
-            try {
-                List<MenuItem> live = RadialMenu.rootMutable();
-                live.clear();
-                live.addAll(fresh);
-                RadialMenu.persist();
-            } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Import: failed to persist: {}", Constants.MOD_NAME, t.toString());
-                safeStatusMessage("Import failed while saving.");
+    /**
+     * Copy the given items to the clipboard (same array shape as an export).
+     * @return number of items copied, -1 on failure.
+     */
+    public static int copyItemsToClipboard(List<MenuItem> items) {
+        try {
+            JsonArray arr = new JsonArray();
+            for (MenuItem mi : items) arr.add(mi.serialize());
+            if (!ClipboardIO.setClipboard(GSON.toJson(arr))) {
+                Constants.LOG.warn("[{}] Copy: failed to write to clipboard.", Constants.MOD_NAME);
                 return -1;
             }
-
-            Constants.LOG.info("[{}] Imported {} items from clipboard.", Constants.MOD_NAME, fresh.size());
-            safeStatusMessage("Imported " + fresh.size() + " items from clipboard.");
-            return fresh.size();
+            safeStatusMessage("Copied " + arr.size() + " items to clipboard.");
+            return arr.size();
         } catch (Throwable t) {
-            Constants.LOG.warn("[{}] Import failed: {}", Constants.MOD_NAME, t.toString());
-            safeStatusMessage("Import failed (see log).");
+            Constants.LOG.warn("[{}] Copy failed: {}", Constants.MOD_NAME, t.toString());
             return -1;
         }
     }
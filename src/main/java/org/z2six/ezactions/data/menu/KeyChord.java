@@ -0,0 +1,88 @@
+// MainFile: src/main/java/org/z2six/ezactions/data/menu/KeyChord.java
+package org.z2six.ezactions.data.menu;
+
+import com.mojang.blaze3d.platform.InputConstants;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.Locale;
+
+/**
+ * A direct hotkey: one keyboard key plus Ctrl/Shift/Alt modifiers (GLFW mod bits).
+ * JSON form is "ctrl+shift+key.keyboard.g" (modifiers first, then the InputConstants key name).
+ * {@link #packed()} is the lookup key used by the hotkey dispatch table.
+ */
+public record KeyChord(int key, int mods) {
+
+    /** Modifier bits we honour (Caps/Num Lock and Super are ignored). */
+    public static final int MOD_MASK = GLFW.GLFW_MOD_SHIFT | GLFW.GLFW_MOD_CONTROL | GLFW.GLFW_MOD_ALT;
+
+    public KeyChord {
+        mods &= MOD_MASK;
+    }
+
+    /** Table key: key code in the high bits, the three modifier bits in the low ones. */
+    public int packed() {
+        return pack(key, mods);
+    }
+
+    public static int pack(int glfwKey, int glfwMods) {
+        return (glfwKey << 3) | (glfwMods & MOD_MASK);
+    }
+
+    /** Modifier keys cannot be the main key of a chord. */
+    public static boolean isModifierKey(int glfwKey) {
+        return switch (glfwKey) {
+            case GLFW.GLFW_KEY_LEFT_SHIFT, GLFW.GLFW_KEY_RIGHT_SHIFT,
+                 GLFW.GLFW_KEY_LEFT_CONTROL, GLFW.GLFW_KEY_RIGHT_CONTROL,
+                 GLFW.GLFW_KEY_LEFT_ALT, GLFW.GLFW_KEY_RIGHT_ALT,
+                 GLFW.GLFW_KEY_LEFT_SUPER, GLFW.GLFW_KEY_RIGHT_SUPER -> true;
+            default -> false;
+        };
+    }
+
+    /** Parse the JSON form; null for blank or unknown input. */
+    public static KeyChord parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            int mods = 0;
+            String[] parts = s.trim().toLowerCase(Locale.ROOT).split("\\+");
+            for (int i = 0; i < parts.length - 1; i++) {
+                switch (parts[i].trim()) {
+                    case "ctrl", "control" -> mods |= GLFW.GLFW_MOD_CONTROL;
+                    case "shift" -> mods |= GLFW.GLFW_MOD_SHIFT;
+                    case "alt" -> mods |= GLFW.GLFW_MOD_ALT;
+                    default -> { return null; }
+                }
+            }
+            InputConstants.Key k = InputConstants.getKey(parts[parts.length - 1].trim());
+            if (k.getType() != InputConstants.Type.KEYSYM || k.getValue() < 0) return null;
+            return new KeyChord(k.getValue(), mods);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /** JSON form, e.g. "ctrl+key.keyboard.g". */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder();
+        if ((mods & GLFW.GLFW_MOD_CONTROL) != 0) sb.append("ctrl+");
+        if ((mods & GLFW.GLFW_MOD_SHIFT) != 0) sb.append("shift+");
+        if ((mods & GLFW.GLFW_MOD_ALT) != 0) sb.append("alt+");
+        sb.append(InputConstants.Type.KEYSYM.getOrCreate(key).getName());
+        return sb.toString();
+    }
+
+    /** Human-readable form, e.g. "Ctrl+G". */
+    public String displayName() {
+        StringBuilder sb = new StringBuilder();
+        if ((mods & GLFW.GLFW_MOD_CONTROL) != 0) sb.append("Ctrl+");
+        if ((mods & GLFW.GLFW_MOD_SHIFT) != 0) sb.append("Shift+");
+        if ((mods & GLFW.GLFW_MOD_ALT) != 0) sb.append("Alt+");
+        try {
+            sb.append(InputConstants.Type.KEYSYM.getOrCreate(key).getDisplayName().getString());
+        } catch (Throwable t) {
+            sb.append(key);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,137 @@
+// MainFile: src/main/java/org/z2six/ezactions/data/menu/MenuCondition.java
+package org.z2six.ezactions.data.menu;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.world.level.GameType;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.helper.ClientContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Optional visibility condition of a menu item ("when" in menu.json):
+ * <pre>
+ * "when": { "dimensions": ["minecraft:the_nether"], "gameModes": ["survival", "adventure"], "held": ["minecraft:bow"] }
+ * </pre>
+ * Every non-empty list must match (AND across lists, OR within a list). "held" matches main or off hand.
+ * Ids without a namespace get "minecraft:".
+ *
+ * Compiled once at load into arrays of normalized ids plus a game-mode bitmask, so {@link #test()}
+ * is a few comparisons against {@link ClientContext}. Immutable.
+ */
+public final class MenuCondition {
+
+    private static final String[] NONE = new String[0];
+
+    /** No restrictions. */
+    public static final MenuCondition ALWAYS = new MenuCondition(NONE, 0, NONE);
+
+    private final String[] dimensions;
+    private final int gameModeMask;
+    private final String[] heldItems;
+
+    private MenuCondition(String[] dimensions, int gameModeMask, String[] heldItems) {
+        this.dimensions = dimensions;
+        this.gameModeMask = gameModeMask;
+        this.heldItems = heldItems;
+    }
+
+    public boolean isAlways() {
+        return dimensions.length == 0 && gameModeMask == 0 && heldItems.length == 0;
+    }
+
+    /** Evaluate against the current {@link ClientContext}. */
+    public boolean test() {
+        if (isAlways()) return true;
+        if (dimensions.length > 0 && !contains(dimensions, ClientContext.dimension())) return false;
+        if (gameModeMask != 0 && (gameModeMask & ClientContext.gameModeBit()) == 0) return false;
+        if (heldItems.length > 0
+                && !contains(heldItems, ClientContext.mainHand())
+                && !contains(heldItems, ClientContext.offHand())) return false;
+        return true;
+    }
+
+    // -------- JSON --------
+
+    /** Compile from the "when" element; null / malformed input yields {@link #ALWAYS}. */
+    public static MenuCondition parse(JsonElement el) {
+        try {
+            if (el == null || !el.isJsonObject()) return ALWAYS;
+            JsonObject o = el.getAsJsonObject();
+
+            String[] dims = ids(o, "dimensions");
+            String[] held = ids(o, "held");
+
+            int mask = 0;
+            if (o.has("gameModes") && o.get("gameModes").isJsonArray()) {
+                for (JsonElement m : o.getAsJsonArray("gameModes")) {
+                    if (!m.isJsonPrimitive()) continue;
+                    GameType type = GameType.byName(m.getAsString().trim().toLowerCase(Locale.ROOT), null);
+                    if (type != null) {
+                        mask |= 1 << type.getId();
+                    } else {
+                        Constants.LOG.warn("[{}] Unknown game mode '{}' in menu condition; ignored.", Constants.MOD_NAME, m.getAsString());
+                    }
+                }
+            }
+
+            MenuCondition c = new MenuCondition(dims, mask, held);
+            return c.isAlways() ? ALWAYS : c;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Bad menu condition, item will always show: {}", Constants.MOD_NAME, t.toString());
+            return ALWAYS;
+        }
+    }
+
+    /** JSON form (only non-empty lists are written). */
+    public JsonObject serialize() {
+        JsonObject o = new JsonObject();
+        if (dimensions.length > 0) o.add("dimensions", array(dimensions));
+        if (gameModeMask != 0) {
+            JsonArray arr = new JsonArray();
+            for (GameType type : GameType.values()) {
+                if ((gameModeMask & (1 << type.getId())) != 0) arr.add(type.getName());
+            }
+            o.add("gameModes", arr);
+        }
+        if (heldItems.length > 0) o.add("held", array(heldItems));
+        return o;
+    }
+
+    // -------- helpers --------
+
+    private static String[] ids(JsonObject o, String key) {
+        if (!o.has(key) || !o.get(key).isJsonArray()) return NONE;
+        List<String> out = new ArrayList<>();
+        for (JsonElement e : o.getAsJsonArray(key)) {
+            if (!e.isJsonPrimitive()) continue;
+            String s = e.getAsString().trim().toLowerCase(Locale.ROOT);
+            if (s.isEmpty()) continue;
+            if (s.indexOf(':') < 0) s = "minecraft:" + s;
+            if (!out.contains(s)) out.add(s);
+        }
+        return out.isEmpty() ? NONE : out.toArray(NONE);
+    }
+
+    private static JsonArray array(String[] values) {
+        JsonArray arr = new JsonArray();
+        for (String v : values) arr.add(v);
+        return arr;
+    }
+
+    private static boolean contains(String[] values, String v) {
+        for (String s : values) {
+            if (s.equals(v)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return isAlways() ? "always" : serialize().toString();
+    }
+}
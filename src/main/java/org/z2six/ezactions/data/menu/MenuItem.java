@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Immutable-ish menu entry: either an action (has IClickAction, children empty)
@@ -25,6 +26,11 @@ import java.util.Objects;
  *
  * Notes:
  *  - Both actions and categories can carry an optional "note" string.
+ *  - Both can carry an optional visibility {@link MenuCondition} ("when" in JSON). A hidden
+ *    category hides its whole subtree. See {@link RadialMenu#visibleItems()}.
+ *  - Categories can enable "smart order": the radial then sorts their actions by recent use
+ *    (see {@link UsageTracker}).
+ *  - Actions can carry a direct hotkey ({@link KeyChord}) that runs them without opening the radial.
  */
 public final class MenuItem {
 
@@ -34,18 +40,27 @@ public final class MenuItem {
     private final IconSpec icon;        // visual icon spec
     private final IClickAction action;  // null => category
     private final List<MenuItem> children; // backing, mutable list for categories
+    private final MenuCondition condition; // never null; ALWAYS when unconditional
+    private final boolean smartOrder;      // categories only: rank actions by usage
+    private final KeyChord hotkey;         // actions only; null = none
 
     public MenuItem(String id,
                     String title,
                     String note,
                     IconSpec icon,
                     IClickAction action,
-                    List<MenuItem> children) {
+                    List<MenuItem> children,
+                    MenuCondition condition,
+                    boolean smartOrder,
+                    KeyChord hotkey) {
         this.id = Objects.requireNonNullElse(id, "item_" + Long.toUnsignedString(System.nanoTime(), 36));
         this.title = Objects.requireNonNullElse(title, "Unnamed");
         this.note = (note == null) ? "" : note; // keep as provided for both actions & categories
         this.icon = icon == null ? IconSpec.item("minecraft:stone") : icon;
         this.action = action; // nullable => category
+        this.condition = (condition == null) ? MenuCondition.ALWAYS : condition;
+        this.smartOrder = smartOrder && action == null;
+        this.hotkey = (action == null) ? null : hotkey;
 
         // Backing, MUTABLE list (no unmodifiable wrapper here!)
         if (children == null) {
@@ -55,6 +70,39 @@ public final class MenuItem {
         }
     }
 
+    // No hotkey.
+    public MenuItem(String id,
+                    String title,
+                    String note,
+                    IconSpec icon,
+                    IClickAction action,
+                    List<MenuItem> children,
+                    MenuCondition condition,
+                    boolean smartOrder) {
+        this(id, title, note, icon, action, children, condition, smartOrder, null);
+    }
+
+    // No smart order.
+    public MenuItem(String id,
+                    String title,
+                    String note,
+                    IconSpec icon,
+                    IClickAction action,
+                    List<MenuItem> children,
+                    MenuCondition condition) {
+        this(id, title, note, icon, action, children, condition, false);
+    }
+
+    // Unconditional item.
+    public MenuItem(String id,
+                    String title,
+                    String note,
+                    IconSpec icon,
+                    IClickAction action,
+                    List<MenuItem> children) {
+        this(id, title, note, icon, action, children, MenuCondition.ALWAYS);
+    }
+
     // Backward-compat constructor (no note provided) – used by older callsites.
     public MenuItem(String id,
                     String title,
@@ -73,6 +121,12 @@ public final class MenuItem {
     public IClickAction action() { return action; }
     // Alias retained for older call sites:
     public IClickAction clickAction() { return action; }
+    /** Visibility condition ({@link MenuCondition#ALWAYS} if none). */
+    public MenuCondition condition() { return condition; }
+    /** True for categories whose actions the radial orders by usage. */
+    public boolean smartOrder() { return smartOrder; }
+    /** Direct hotkey of an action, or null. */
+    public KeyChord hotkey() { return hotkey; }
 
     /** Read-only children view. */
     public List<MenuItem> children() {
@@ -95,7 +149,7 @@ public final class MenuItem {
         try {
             IconSpec use = (newIcon == null) ? IconSpec.item("minecraft:stone") : newIcon;
             // keep current children (backing list) when copying
-            return new MenuItem(this.id, this.title, this.note, use, this.action, this.children);
+            return new MenuItem(this.id, this.title, this.note, use, this.action, this.children, this.condition, this.smartOrder, this.hotkey);
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] MenuItem.withIcon failed: {}", Constants.MOD_NAME, t.toString());
             return this;
@@ -105,24 +159,49 @@ public final class MenuItem {
     /** Return a copy with a different title. */
     public MenuItem withTitle(String newTitle) {
         String use = (newTitle == null || newTitle.isBlank()) ? this.title : newTitle;
-        return new MenuItem(this.id, use, this.note, this.icon, this.action, this.children);
+        return new MenuItem(this.id, use, this.note, this.icon, this.action, this.children, this.condition, this.smartOrder, this.hotkey);
     }
 
     /** Return a copy with a different note. */
     public MenuItem withNote(String newNote) {
         String use = (newNote == null) ? "" : newNote;
-        return new MenuItem(this.id, this.title, use, this.icon, this.action, this.children);
+        return new MenuItem(this.id, this.title, use, this.icon, this.action, this.children, this.condition, this.smartOrder, this.hotkey);
     }
 
     /** Return a copy with a different action (converts category->action if non-null). */
     public MenuItem withAction(IClickAction newAction) {
         // when this becomes an action, children should be empty; preserve note
-        return new MenuItem(this.id, this.title, this.note, this.icon, newAction, Collections.emptyList());
+        return new MenuItem(this.id, this.title, this.note, this.icon, newAction, Collections.emptyList(), this.condition, false, this.hotkey);
     }
 
     /** Return a copy with different children (converts to category; preserve note). */
     public MenuItem withChildren(List<MenuItem> newChildren) {
-        return new MenuItem(this.id, this.title, this.note, this.icon, null, newChildren);
+        return new MenuItem(this.id, this.title, this.note, this.icon, null, newChildren, this.condition, this.smartOrder, this.hotkey);
+    }
+
+    /** Return a copy with smart order on/off (ignored for actions). */
+    public MenuItem withSmartOrder(boolean enabled) {
+        return new MenuItem(this.id, this.title, this.note, this.icon, this.action, this.children, this.condition, enabled, this.hotkey);
+    }
+
+    /** Return a copy with a different hotkey (null = none; ignored for categories). */
+    public MenuItem withHotkey(KeyChord newHotkey) {
+        return new MenuItem(this.id, this.title, this.note, this.icon, this.action, this.children, this.condition, this.smartOrder, newHotkey);
+    }
+
+    /** Return a copy with a different visibility condition (null = always visible). */
+    public MenuItem withCondition(MenuCondition newCondition) {
+        return new MenuItem(this.id, this.title, this.note, this.icon, this.action, this.children, newCondition, this.smartOrder, this.hotkey);
+    }
+
+    /**
+     * Deep copy where this item and every child get the id {@code idFor} returns for them. The
+     * hotkey is not copied so a duplicate never fires together with its original.
+     */
+    public MenuItem copyWithNewIds(Function<MenuItem, String> idFor) {
+        List<MenuItem> kids = new ArrayList<>(this.children.size());
+        for (MenuItem child : this.children) kids.add(child.copyWithNewIds(idFor));
+        return new MenuItem(idFor.apply(this), this.title, this.note, this.icon, this.action, kids, this.condition, this.smartOrder, null);
     }
 
     // -------- JSON (de)serialization --------
@@ -143,11 +222,18 @@ public final class MenuItem {
                 o.addProperty("note", this.note);
             }
 
+            // Optional visibility condition
+            if (!this.condition.isAlways()) {
+                o.add("when", this.condition.serialize());
+            }
+
             if (this.action != null) {
                 // Action object
                 o.add("action", ClickActionSerializer.serialize(this.action));
+                if (this.hotkey != null) o.addProperty("hotkey", this.hotkey.serialize());
             } else {
                 // Category children
+                if (this.smartOrder) o.addProperty("smartOrder", true);
                 JsonArray arr = new JsonArray();
                 for (MenuItem child : this.children) {
                     arr.add(child.serialize());
@@ -167,6 +253,10 @@ public final class MenuItem {
             String title = getString(o, "title", "Unnamed");
             String iconId = getString(o, "icon", "minecraft:stone");
             String note = getString(o, "note", ""); // read note for both cases
+            MenuCondition condition = MenuCondition.parse(o.get("when")); // compiled once, here
+            boolean smartOrder = o.has("smartOrder") && o.get("smartOrder").isJsonPrimitive()
+                    && o.get("smartOrder").getAsBoolean();
+            KeyChord hotkey = KeyChord.parse(getString(o, "hotkey", ""));
 
             IClickAction action = null;
             List<MenuItem> children = Collections.emptyList();
@@ -183,7 +273,7 @@ public final class MenuItem {
                 children = list;
             }
 
-            return new MenuItem(id, title, note, IconSpec.item(iconId), action, children);
+            return new MenuItem(id, title, note, IconSpec.item(iconId), action, children, condition, smartOrder, hotkey);
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] MenuItem.deserialize failed: {}", Constants.MOD_NAME, t.toString());
             // return a safe placeholder so the menu keeps working
@@ -222,6 +312,8 @@ public final class MenuItem {
                 ", icon=" + (icon == null ? "null" : icon.id()) +
                 ", action=" + (action == null ? "<category>" : action.getType()) +
                 ", children=" + childCount +
+                (condition.isAlways() ? "" : ", when=" + condition) +
+                (hotkey == null ? "" : ", hotkey=" + hotkey.serialize()) +
                 '}';
     }
 }
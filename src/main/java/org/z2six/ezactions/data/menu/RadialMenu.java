@@ -3,14 +3,25 @@ package org.z2six.ezactions.data.menu;
 
 import net.minecraft.client.Minecraft;
 import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.ConfigSnapshot;
 import org.z2six.ezactions.data.json.MenuLoader;
 import org.z2six.ezactions.gui.RadialMenuScreen;
+import org.z2six.ezactions.helper.ClientContext;
+import org.z2six.ezactions.net.ServerPackClient;
 
 import java.util.*;
 
 /**
  * Holds the menu model and opens the radial as a Screen (mouse free, gameplay input blocked).
  * Visual blur is disabled for our screens via the NoBlur mixin.
+ *
+ * The radial shows {@link #visibleItems()}: the current page filtered by item conditions. That list
+ * is cached and rebuilt only when the page, the model ({@link #modelVersion()}, bumped by persist and
+ * reload), the {@link ClientContext} version or, on smart-order pages, the {@link UsageTracker}
+ * version changes. Editors keep working on {@link #currentItems()}.
+ *
+ * A menu pack pushed by the server ({@link ServerPackClient}) is merged lazily into the visible root
+ * page as one trailing category; it never enters ROOT, so it is not saved or edited.
  */
 public final class RadialMenu {
 
@@ -18,6 +29,25 @@ public final class RadialMenu {
     // PATH is maintained root -> ... -> deepest (append when entering, remove last when going back)
     private static final Deque<MenuItem> PATH = new ArrayDeque<>();
 
+    // Bumped on every persist/reload so caches keyed on the model can tell it changed
+    private static int MODEL_VERSION = 0;
+
+    // Editor batches: persist() inside a batch only bumps the version; the outermost endBatch writes once
+    private static int BATCH_DEPTH = 0;
+    private static boolean BATCH_DIRTY = false;
+
+    // Visible-list cache for the current page
+    private static List<MenuItem> visibleSource = null;
+    private static int visibleModel = -1;
+    private static int visibleContext = -1;
+    private static int visibleUsage = -1;
+    private static int visiblePack = -1;
+    private static List<MenuItem> visibleCache = List.of();
+
+    // id -> item over the whole tree, rebuilt lazily per model version
+    private static Map<String, MenuItem> byId = Map.of();
+    private static int byIdModel = -1;
+
     private RadialMenu() {}
 
     /** Open the radial as a Screen, always starting at ROOT. */
@@ -43,6 +73,7 @@ public final class RadialMenu {
 
             ensureLoaded();
             PATH.clear(); // important: always open at root
+            ClientContext.tick(mc); // conditions see this frame's state even before the next tick
             mc.setScreen(new RadialMenuScreen());
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Failed to open radial: {}", Constants.MOD_NAME, t.toString());
@@ -102,6 +133,89 @@ public final class RadialMenu {
         return items;
     }
 
+    /**
+     * The current page as the radial shows it: items whose condition fails are left out, and on
+     * smart-order pages actions are ranked by usage. Returns the page list itself when neither
+     * applies. Do not mutate the result.
+     */
+    public static List<MenuItem> visibleItems() {
+        List<MenuItem> items = currentItems();
+        int ctx = ClientContext.version();
+        boolean smart = isSmartOrderPage();
+        int usage = smart ? UsageTracker.version() : -1;
+        int pack = PATH.isEmpty() ? ServerPackClient.version() : -1;
+        if (items == visibleSource && visibleModel == MODEL_VERSION && visibleContext == ctx && visibleUsage == usage
+                && visiblePack == pack) {
+            return visibleCache;
+        }
+
+        List<MenuItem> out = items;
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                if (items.get(i).condition().test()) continue;
+                // First hidden item: switch to a filtered copy
+                out = new ArrayList<>(items.size());
+                for (int j = 0; j < items.size(); j++) {
+                    MenuItem mi = items.get(j);
+                    if (j < i || (j > i && mi.condition().test())) out.add(mi);
+                }
+                break;
+            }
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Condition evaluation failed; showing all items: {}", Constants.MOD_NAME, t.toString());
+            out = items;
+        }
+        if (smart) out = UsageTracker.rank(out);
+
+        if (PATH.isEmpty()) {
+            try {
+                MenuItem server = ServerPackClient.category(); // parsed on first use
+                if (server != null && server.condition().test()) {
+                    if (out == items) out = new ArrayList<>(items);
+                    out.add(server);
+                }
+            } catch (Throwable t) {
+                Constants.LOG.warn("[{}] Server menu pack merge failed: {}", Constants.MOD_NAME, t.toString());
+            }
+        }
+
+        visibleSource = items;
+        visibleModel = MODEL_VERSION;
+        visibleContext = ctx;
+        visibleUsage = usage;
+        visiblePack = pack;
+        visibleCache = out;
+        return out;
+    }
+
+    private static boolean isSmartOrderPage() {
+        MenuItem cat = PATH.peekLast();
+        return (cat == null) ? ConfigSnapshot.get().smartOrderRoot : cat.smartOrder();
+    }
+
+    /** Item with {@code id} anywhere in the tree, or null. Index is rebuilt once per model version. */
+    public static MenuItem findById(String id) {
+        if (id == null) return null;
+        ensureLoaded();
+        if (byIdModel != MODEL_VERSION) {
+            Map<String, MenuItem> index = new HashMap<>();
+            Deque<List<MenuItem>> todo = new ArrayDeque<>();
+            todo.push(ROOT);
+            while (!todo.isEmpty()) {
+                for (MenuItem mi : todo.pop()) {
+                    index.putIfAbsent(mi.id(), mi);
+                    if (mi.isCategory()) todo.push(mi.childrenMutable());
+                }
+            }
+            byId = index;
+            byIdModel = MODEL_VERSION;
+        }
+        return byId.get(id);
+    }
+
+    /** Incremented whenever the menu tree is persisted or reloaded. */
+    public static int modelVersion() { return MODEL_VERSION; }
+
     /** Human-friendly titles for breadcrumb UI: ["root", "Cat1", "Sub", ...]. */
     public static List<String> pathTitles() {
         ensureLoaded();
@@ -119,10 +233,12 @@ public final class RadialMenu {
         try {
             ROOT = MenuLoader.loadMenu();
             PATH.clear();
+            MODEL_VERSION++;
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] RadialMenu reload failed: {}", Constants.MOD_NAME, t.toString());
             ROOT = new ArrayList<>();
             PATH.clear();
+            MODEL_VERSION++;
         }
     }
 
@@ -180,8 +296,13 @@ public final class RadialMenu {
         return false;
     }
 
-    /** Persist the entire menu tree to disk. */
+    /** Persist the entire menu tree to disk (deferred to {@link #endBatch()} inside a batch). */
     public static void persist() {
+        MODEL_VERSION++;
+        if (BATCH_DEPTH > 0) {
+            BATCH_DIRTY = true;
+            return;
+        }
         try {
             MenuLoader.saveMenu(ROOT);
         } catch (Throwable t) {
@@ -189,6 +310,20 @@ public final class RadialMenu {
         }
     }
 
+    /** Start a group of edits that is written to disk once, by the matching {@link #endBatch()}. */
+    public static void beginBatch() {
+        BATCH_DEPTH++;
+    }
+
+    /** End a group of edits; the outermost call persists if anything inside asked to. Nests. */
+    public static void endBatch() {
+        if (BATCH_DEPTH == 0) return;
+        if (--BATCH_DEPTH == 0 && BATCH_DIRTY) {
+            BATCH_DIRTY = false;
+            persist();
+        }
+    }
+
     // --- Helpers used by MenuEditorScreen (write-through) ---
 
     /** Remove by id in the current level, then persist to disk. */
@@ -0,0 +1,302 @@
+// MainFile: src/main/java/org/z2six/ezactions/data/menu/UsageTracker.java
+package org.z2six.ezactions.data.menu;
+
+import net.minecraft.Util;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.event.GameShuttingDownEvent;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.GeneralClientConfig;
+import org.z2six.ezactions.helper.ClientTaskQueue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decaying per-item usage scores for "smart order" categories.
+ *
+ * Each use adds 1 to an item's score; scores halve every smartOrderHalfLifeHours, so items used
+ * often AND recently rank first. Only (score, timestamp) is stored per id and decay is applied
+ * lazily when read.
+ *
+ * Persistence: config/ezactions/usage.dat, a small binary file. Loaded on first use; saves are
+ * debounced on the client tick queue and written on the IO pool from a snapshot, so recording a
+ * use never touches the disk on the client thread. Pending changes are written synchronously when
+ * the player logs out and when the game shuts down, so a quit right after a selection keeps it.
+ *
+ * Client thread only (apart from the background write); never throws.
+ */
+public final class UsageTracker {
+
+    private UsageTracker() {}
+
+    private static final String FILE_NAME = "usage.dat";
+    private static final int MAGIC = 0x455A5531; // "EZU1"
+    private static final int MAX_ENTRIES = 1024;
+    private static final double PRUNE_BELOW = 0.05;
+    /** Ticks to wait after a use before writing, so bursts coalesce into one write. */
+    private static final int SAVE_DELAY_TICKS = 200;
+
+    private static final class Entry {
+        double score;   // score as of 'last'
+        long last;      // epoch millis
+
+        double at(long now, double halfLifeMs) {
+            long dt = Math.max(0L, now - last);
+            return score * Math.pow(0.5, dt / halfLifeMs);
+        }
+    }
+
+    private static final Map<String, Entry> SCORES = new HashMap<>();
+    private static final Object FILE_LOCK = new Object();
+    private static boolean loaded = false;
+    private static boolean saveScheduled = false; // also: there are unsaved changes
+    private static long snapshotSeq = 0L;
+    private static long writtenSeq = 0L;              // guarded by FILE_LOCK
+
+    /** Data of one save, taken on the client thread. */
+    private record Snapshot(long seq, String[] ids, double[] scores, long[] stamps) {}
+    private static int version = 0;
+
+    /** Count one use of the item with {@code id}. */
+    public static void record(String id) {
+        if (id == null || id.isEmpty()) return;
+        try {
+            ensureLoaded();
+            long now = System.currentTimeMillis();
+            Entry e = SCORES.computeIfAbsent(id, k -> new Entry());
+            e.score = e.at(now, halfLifeMs()) + 1.0;
+            e.last = now;
+            version++;
+            scheduleSave();
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] UsageTracker.record failed for '{}': {}", Constants.MOD_NAME, id, t.toString());
+        }
+    }
+
+    /** Bumped on every recorded use; caches of ranked lists key on it. */
+    public static int version() { return version; }
+
+    /** Current decayed score of {@code id} (0 if never used). */
+    public static double score(String id) {
+        ensureLoaded();
+        Entry e = (id == null) ? null : SCORES.get(id);
+        return (e == null) ? 0.0 : e.at(System.currentTimeMillis(), halfLifeMs());
+    }
+
+    /**
+     * Smart order for one page: actions are sorted by score (highest first, ties keep menu order)
+     * and fill the slots actions had; categories keep their slots so the page's structure stays put.
+     * Returns {@code items} itself when nothing on the page has been used.
+     */
+    public static List<MenuItem> rank(List<MenuItem> items) {
+        try {
+            ensureLoaded();
+            if (items == null || items.size() < 2 || SCORES.isEmpty()) return items;
+
+            final long now = System.currentTimeMillis();
+            final double hl = halfLifeMs();
+            final int n = items.size();
+            int[] slots = new int[n];
+            Integer[] order = new Integer[n];
+            final double[] score = new double[n];
+            int actions = 0;
+            boolean anyUsed = false;
+            for (int i = 0; i < n; i++) {
+                MenuItem mi = items.get(i);
+                if (mi.isCategory()) continue;
+                Entry e = SCORES.get(mi.id());
+                score[i] = (e == null) ? 0.0 : e.at(now, hl);
+                anyUsed |= score[i] > 0.0;
+                slots[actions] = i;
+                order[actions] = i;
+                actions++;
+            }
+            if (!anyUsed || actions < 2) return items;
+
+            Arrays.sort(order, 0, actions, (a, b) -> {
+                int c = Double.compare(score[b], score[a]);
+                return (c != 0) ? c : Integer.compare(a, b);
+            });
+
+            List<MenuItem> out = new ArrayList<>(items);
+            for (int k = 0; k < actions; k++) {
+                out.set(slots[k], items.get(order[k]));
+            }
+            return out;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] UsageTracker.rank failed: {}", Constants.MOD_NAME, t.toString());
+            return items;
+        }
+    }
+
+    /** Ids of the {@code n} highest-scoring items, best first. */
+    public static List<String> top(int n) {
+        List<String> out = new ArrayList<>(Math.max(0, n));
+        try {
+            ensureLoaded();
+            if (n <= 0 || SCORES.isEmpty()) return out;
+            final long now = System.currentTimeMillis();
+            final double hl = halfLifeMs();
+            String[] ids = new String[n];
+            double[] best = new double[n];
+            int size = 0;
+            for (Map.Entry<String, Entry> me : SCORES.entrySet()) {
+                double s = me.getValue().at(now, hl);
+                if (size == n && s <= best[n - 1]) continue;
+                int pos = (size < n) ? size++ : n - 1;
+                while (pos > 0 && best[pos - 1] < s) {
+                    best[pos] = best[pos - 1];
+                    ids[pos] = ids[pos - 1];
+                    pos--;
+                }
+                best[pos] = s;
+                ids[pos] = me.getKey();
+            }
+            for (int i = 0; i < size; i++) out.add(ids[i]);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] UsageTracker.top failed: {}", Constants.MOD_NAME, t.toString());
+        }
+        return out;
+    }
+
+    // --- persistence ---------------------------------------------------------
+
+    private static void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        Path path = path();
+        if (!Files.exists(path)) return;
+        synchronized (FILE_LOCK) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (in.readInt() != MAGIC) {
+                    Constants.LOG.warn("[{}] {} has an unknown format; starting fresh.", Constants.MOD_NAME, FILE_NAME);
+                    return;
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count && i < MAX_ENTRIES; i++) {
+                    Entry e = new Entry();
+                    String id = in.readUTF();
+                    e.score = in.readDouble();
+                    e.last = in.readLong();
+                    SCORES.put(id, e);
+                }
+                Constants.LOG.debug("[{}] Loaded {} usage entries.", Constants.MOD_NAME, SCORES.size());
+            } catch (Throwable t) {
+                Constants.LOG.warn("[{}] Failed to read {}: {}", Constants.MOD_NAME, FILE_NAME, t.toString());
+            }
+        }
+    }
+
+    private static void scheduleSave() {
+        if (saveScheduled) return;
+        saveScheduled = true;
+        ClientTaskQueue.postDelayed(UsageTracker::flush, SAVE_DELAY_TICKS);
+    }
+
+    /** GAME bus: write pending changes before the connection goes away. */
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut e) {
+        flushNow();
+    }
+
+    /** GAME bus: write pending changes before the JVM exits (the IO pool may not get to run). */
+    public static void onGameShuttingDown(GameShuttingDownEvent e) {
+        flushNow();
+    }
+
+    /** Snapshot on the client thread, write on the IO pool. */
+    private static void flush() {
+        if (!saveScheduled) return; // already written by flushNow()
+        saveScheduled = false;
+        final Snapshot snap = snapshot();
+        if (snap != null) Util.ioPool().execute(() -> write(snap));
+    }
+
+    /** Write pending changes on the calling thread. */
+    private static void flushNow() {
+        if (!saveScheduled) return;
+        saveScheduled = false;
+        Snapshot snap = snapshot();
+        if (snap != null) write(snap);
+    }
+
+    private static Snapshot snapshot() {
+        try {
+            final long now = System.currentTimeMillis();
+            final double hl = halfLifeMs();
+            SCORES.values().removeIf(e -> e.at(now, hl) < PRUNE_BELOW);
+            if (SCORES.size() > MAX_ENTRIES) {
+                List<Map.Entry<String, Entry>> all = new ArrayList<>(SCORES.entrySet());
+                all.sort((a, b) -> Double.compare(a.getValue().at(now, hl), b.getValue().at(now, hl)));
+                for (int i = 0; i < all.size() - MAX_ENTRIES; i++) SCORES.remove(all.get(i).getKey());
+            }
+
+            final int n = SCORES.size();
+            final String[] ids = new String[n];
+            final double[] scores = new double[n];
+            final long[] stamps = new long[n];
+            int i = 0;
+            for (Map.Entry<String, Entry> me : SCORES.entrySet()) {
+                ids[i] = me.getKey();
+                scores[i] = me.getValue().score;
+                stamps[i] = me.getValue().last;
+                i++;
+            }
+            return new Snapshot(++snapshotSeq, ids, scores, stamps);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] UsageTracker save snapshot failed: {}", Constants.MOD_NAME, t.toString());
+            return null;
+        }
+    }
+
+    private static void write(Snapshot snap) {
+        synchronized (FILE_LOCK) {
+            if (snap.seq() <= writtenSeq) return; // a newer snapshot was written already
+            final String[] ids = snap.ids();
+            final double[] scores = snap.scores();
+            final long[] stamps = snap.stamps();
+            Path path = path();
+            Path tmp = path.resolveSibling(FILE_NAME + ".tmp");
+            try {
+                Files.createDirectories(path.getParent());
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(ids.length);
+                    for (int i = 0; i < ids.length; i++) {
+                        out.writeUTF(ids[i]);
+                        out.writeDouble(scores[i]);
+                        out.writeLong(stamps[i]);
+                    }
+                }
+                try {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+                writtenSeq = snap.seq();
+                Constants.LOG.debug("[{}] Saved {} usage entries.", Constants.MOD_NAME, ids.length);
+            } catch (Throwable t) {
+                Constants.LOG.warn("[{}] Failed to write {}: {}", Constants.MOD_NAME, FILE_NAME, t.toString());
+            }
+        }
+    }
+
+    private static Path path() {
+        return FMLPaths.CONFIGDIR.get().resolve(Constants.MOD_ID).resolve(FILE_NAME);
+    }
+
+    private static double halfLifeMs() {
+        return GeneralClientConfig.CONFIG.smartOrderHalfLifeHours() * 3_600_000.0;
+    }
+}
@@ -8,8 +8,16 @@ import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.common.NeoForge;
+import org.z2six.ezactions.config.ConfigSnapshot;
 import org.z2six.ezactions.config.DesignClientConfig;
+import org.z2six.ezactions.data.menu.UsageTracker;
+import org.z2six.ezactions.gui.editor.IconCatalog;
+import org.z2six.ezactions.handler.ClientCommandHandler;
+import org.z2six.ezactions.handler.HotkeyDispatch;
 import org.z2six.ezactions.handler.KeyboardHandler;
+import org.z2six.ezactions.net.EZNetwork;
+import org.z2six.ezactions.net.ServerPackClient;
+import org.z2six.ezactions.net.ServerPackHost;
 import org.z2six.ezactions.util.EZActionsKeybinds;
 
 /**
@@ -42,6 +50,9 @@ public final class ezactions {
             );
             // Hook: migrate existing file-based TOML (or legacy radial.json) into the spec on first load
             modBus.addListener(DesignClientConfig::onConfigLoad);
+            // Publish a fresh config snapshot whenever one of our configs loads or changes on disk
+            modBus.addListener(ConfigSnapshot::onConfigLoading);
+            modBus.addListener(ConfigSnapshot::onConfigReloading);
 
             Constants.LOG.debug("[{}] Registered CLIENT config specs (anim-client.toml, general-client.toml, design-client.toml).", Constants.MOD_NAME);
         } catch (Throwable t) {
@@ -49,19 +60,40 @@ public final class ezactions {
         }
 
         try {
-            // MOD bus: key mapping registration
-            modBus.addListener(EZActionsKeybinds::onRegisterKeyMappings);
+            // MOD bus: key mapping registration (client only; the mod also loads on servers for menu packs)
+            if (FMLEnvironment.dist == Dist.CLIENT) {
+                modBus.addListener(EZActionsKeybinds::onRegisterKeyMappings);
+                // Prebuild the shared icon catalog in the background once registries are frozen
+                modBus.addListener(IconCatalog::onLoadComplete);
+            }
+            // MOD bus: optional menu pack payloads (both sides)
+            modBus.addListener(EZNetwork::register);
             Constants.LOG.debug("[{}] Registered MOD-bus listeners.", Constants.MOD_NAME);
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Failed to register MOD-bus listeners: {}", Constants.MOD_NAME, t.toString());
         }
 
+        try {
+            // GAME bus: offer the server menu pack to joining players (dedicated and integrated servers)
+            NeoForge.EVENT_BUS.addListener(ServerPackHost::onPlayerLoggedIn);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to register server listeners: {}", Constants.MOD_NAME, t.toString());
+        }
+
         try {
             // GAME bus (global): client tick listeners
             if (FMLEnvironment.dist == Dist.CLIENT) {
                 NeoForge.EVENT_BUS.addListener(KeyboardHandler::onClientTickPre);
                 NeoForge.EVENT_BUS.addListener(KeyboardHandler::onClientTickPost);
-                Constants.LOG.debug("[{}] Registered GAME-bus listeners (Pre & Post).", Constants.MOD_NAME);
+                NeoForge.EVENT_BUS.addListener(KeyboardHandler::onKeyInput);
+                NeoForge.EVENT_BUS.addListener(KeyboardHandler::onMouseButton);
+                NeoForge.EVENT_BUS.addListener(ClientCommandHandler::onRegisterClientCommands);
+                NeoForge.EVENT_BUS.addListener(ServerPackClient::onLoggingOut);
+                NeoForge.EVENT_BUS.addListener(IconCatalog::onTagsUpdated);
+                NeoForge.EVENT_BUS.addListener(HotkeyDispatch::onScreenClosing);
+                NeoForge.EVENT_BUS.addListener(UsageTracker::onLoggingOut);
+                NeoForge.EVENT_BUS.addListener(UsageTracker::onGameShuttingDown);
+                Constants.LOG.debug("[{}] Registered GAME-bus listeners (Pre & Post, key & mouse input).", Constants.MOD_NAME);
             }
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Failed to register GAME-bus listeners: {}", Constants.MOD_NAME, t.toString());
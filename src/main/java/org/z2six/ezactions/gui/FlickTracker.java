@@ -0,0 +1,85 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/FlickTracker.java
+package org.z2six.ezactions.gui;
+
+/**
+ * Ring buffer of recent cursor samples used for flick selection.
+ *
+ * The radial feeds it every frame. When the hotkey is released mid-flick (cursor still in the
+ * deadzone or on the slice it is leaving), {@link #resolve} extrapolates the cursor along its
+ * recent outward velocity and reports the point where it was heading. Slow or inward motion
+ * is ignored, so deliberate aiming behaves exactly as before.
+ *
+ * Coordinates are GUI-scaled pixels; time is System.nanoTime(). No allocation after construction.
+ */
+public final class FlickTracker {
+
+    private static final int CAPACITY = 16;
+    /** Samples older than this are ignored for velocity. */
+    private static final long WINDOW_NANOS = 60_000_000L;   // 60 ms
+    /** Need at least this much time between oldest and newest sample. */
+    private static final long MIN_SPAN_NANOS = 4_000_000L;  // 4 ms
+    /** Minimum speed (GUI px per second) to count as a flick. */
+    private static final double MIN_SPEED = 350.0;
+    /** How far ahead we extrapolate (seconds). */
+    private static final double LOOKAHEAD_S = 0.08;
+
+    private final double[] xs = new double[CAPACITY];
+    private final double[] ys = new double[CAPACITY];
+    private final long[] ts = new long[CAPACITY];
+    private int head = 0;   // next write slot
+    private int size = 0;
+
+    private double outX, outY;
+
+    /** Record the cursor position at {@code nanos}. Duplicate positions are still recorded (they carry time). */
+    public void sample(double x, double y, long nanos) {
+        xs[head] = x;
+        ys[head] = y;
+        ts[head] = nanos;
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) size++;
+    }
+
+    public void clear() {
+        size = 0;
+        head = 0;
+    }
+
+    /**
+     * Decide whether the release at ({@code mx},{@code my}) was a flick away from center ({@code cx},{@code cy}).
+     * Returns true and exposes the extrapolated point via {@link #x()}/{@link #y()}; false if not a flick.
+     */
+    public boolean resolve(double mx, double my, int cx, int cy, long nowNanos) {
+        if (size < 2) return false;
+
+        int newest = (head - 1 + CAPACITY) % CAPACITY;
+        int oldest = newest;
+        for (int n = 1; n < size; n++) {
+            int idx = (newest - n + CAPACITY) % CAPACITY;
+            if (nowNanos - ts[idx] > WINDOW_NANOS) break;
+            oldest = idx;
+        }
+        long span = ts[newest] - ts[oldest];
+        if (oldest == newest || span < MIN_SPAN_NANOS) return false;
+
+        double secs = span / 1_000_000_000.0;
+        double vx = (xs[newest] - xs[oldest]) / secs;
+        double vy = (ys[newest] - ys[oldest]) / secs;
+        if (vx * vx + vy * vy < MIN_SPEED * MIN_SPEED) return false;
+
+        // Only outward motion counts (moving back toward center means "cancel / re-aim").
+        double rx = mx - cx;
+        double ry = my - cy;
+        if (rx * vx + ry * vy < 0.0 && (rx * rx + ry * ry) > 1.0) return false;
+
+        outX = mx + vx * LOOKAHEAD_S;
+        outY = my + vy * LOOKAHEAD_S;
+        return true;
+    }
+
+    /** Extrapolated X from the last successful {@link #resolve}. */
+    public double x() { return outX; }
+
+    /** Extrapolated Y from the last successful {@link #resolve}. */
+    public double y() { return outY; }
+}
@@ -10,15 +10,51 @@ import net.minecraft.world.item.Items;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.data.icon.IconSpec;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Renders IconSpec to the screen. Currently supports ITEM icons.
  * Uses ResourceLocation.tryParse for 1.21.x compatibility and falls back safely.
+ *
+ * Static (non-live) icons are drawn without player/level context, so items with animated model
+ * overrides (compass, clock, ...) show their base model; their stacks are resolved once per id.
  */
 public final class IconRenderer {
 
     private IconRenderer() {}
 
+    /** Resolved stacks for static icons, keyed by item id (bounded; cleared when full). */
+    private static final Map<String, ItemStack> STATIC_STACKS = new HashMap<>();
+    private static final int STATIC_CACHE_MAX = 256;
+
     public static void drawIcon(GuiGraphics g, int x, int y, IconSpec icon) {
+        drawIcon(g, x, y, icon, true);
+    }
+
+    /** {@code live} = false draws a cached stack with a static model (cheaper, see class doc). */
+    public static void drawIcon(GuiGraphics g, int x, int y, IconSpec icon, boolean live) {
+        if (!live) {
+            try {
+                String id = "";
+                if (icon != null) {
+                    switch (icon.kind()) {
+                        case ITEM -> id = icon.id() == null ? "" : icon.id();
+                        default -> { }
+                    }
+                }
+                ItemStack stack = STATIC_STACKS.get(id);
+                if (stack == null) {
+                    if (STATIC_STACKS.size() >= STATIC_CACHE_MAX) STATIC_STACKS.clear();
+                    stack = new ItemStack(id.isEmpty() ? getFallbackItem() : resolveItem(id));
+                    STATIC_STACKS.put(id, stack);
+                }
+                g.renderFakeItem(stack, x - 8, y - 8);
+                return;
+            } catch (Throwable t) {
+                Constants.LOG.debug("[{}] Static icon draw failed, using live path: {}", Constants.MOD_NAME, t.toString());
+            }
+        }
         try {
             if (icon == null) {
                 drawItem(g, x, y, new ItemStack(getFallbackItem()));
@@ -0,0 +1,215 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/RadialLayout.java
+package org.z2six.ezactions.gui;
+
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.RadialConfig;
+
+/**
+ * Precomputed geometry for one page of the radial.
+ *
+ * Small pages (up to maxItemsPerRing) keep the classic single ring, including the scalePerItem
+ * growth. Larger pages are split across up to maxRings concentric rings of constant thickness;
+ * anything beyond maxItemsPerRing x maxRings is moved to further pages, selected with the mouse wheel.
+ * So per-frame slice, vertex and icon counts are bounded by the config, not by category size.
+ *
+ * Slot indices are page-local (0..visible-1, innermost ring first, clockwise from 12 o'clock);
+ * {@link #itemIndex(int)} maps them back to the category's item list.
+ * Built once per (item count, page) and immutable afterwards.
+ */
+public final class RadialLayout {
+
+    /** Pixels between concentric rings. */
+    private static final double RING_GAP = 4.0;
+
+    /** One ring: a contiguous run of slots with its radii and angle tables. */
+    public static final class Ring {
+        public final int first;
+        public final int count;
+        public final double inner;
+        public final double outer;
+        public final double step;
+        /** Slice start angles (radians, absolute; 12 o'clock = -PI/2), length count + 1. */
+        private final double[] start;
+        private final double[] midCos;
+        private final double[] midSin;
+
+        private Ring(int first, int count, double inner, double outer) {
+            this.first = first;
+            this.count = count;
+            this.inner = inner;
+            this.outer = outer;
+            this.step = (Math.PI * 2.0) / Math.max(1, count);
+            this.start = new double[count + 1];
+            this.midCos = new double[count];
+            this.midSin = new double[count];
+            for (int i = 0; i <= count; i++) {
+                start[i] = (-Math.PI / 2.0) + i * step;
+            }
+            for (int i = 0; i < count; i++) {
+                double mid = start[i] + step * 0.5;
+                midCos[i] = Math.cos(mid);
+                midSin[i] = Math.sin(mid);
+            }
+        }
+
+        /** Start angle of local slice {@code i}. */
+        public double a0(int i) { return start[i]; }
+
+        /** End angle of local slice {@code i}. */
+        public double a1(int i) { return start[i + 1]; }
+
+        public double midCos(int i) { return midCos[i]; }
+
+        public double midSin(int i) { return midSin[i]; }
+    }
+
+    private final Ring[] rings;
+    private final int deadzone;
+    private final int page;
+    private final int pageCount;
+    private final int pageStart;
+    private final int visible;
+    private final int totalItems;
+
+    private RadialLayout(Ring[] rings, int deadzone, int page, int pageCount, int pageStart, int visible, int totalItems) {
+        this.rings = rings;
+        this.deadzone = deadzone;
+        this.page = page;
+        this.pageCount = pageCount;
+        this.pageStart = pageStart;
+        this.visible = visible;
+        this.totalItems = totalItems;
+    }
+
+    /** Items shown per page with the current config. */
+    public static int pageSize() {
+        try {
+            RadialConfig c = RadialConfig.get();
+            return Math.max(1, perRing(c)) * Math.max(1, maxRings(c));
+        } catch (Throwable t) {
+            return 24;
+        }
+    }
+
+    /** Number of pages needed for {@code totalItems}. Always at least 1. */
+    public static int pageCount(int totalItems) {
+        int size = pageSize();
+        return Math.max(1, (Math.max(0, totalItems) + size - 1) / size);
+    }
+
+    /** Layout for {@code page} (clamped) of a category holding {@code totalItems} items. */
+    public static RadialLayout compute(int totalItems, int page) {
+        try {
+            RadialConfig c = RadialConfig.get();
+            final int perRing = perRing(c);
+            final int size = perRing * maxRings(c);
+            final int total = Math.max(0, totalItems);
+            final int pages = Math.max(1, (total + size - 1) / size);
+            final int p = Math.max(0, Math.min(pages - 1, page));
+            final int start = p * size;
+            final int n = Math.max(0, Math.min(size, total - start));
+
+            if (n <= perRing) {
+                RadialScreenMath.Radii rr = RadialScreenMath.computeRadii(n);
+                return new RadialLayout(new Ring[]{ new Ring(0, n, rr.inner(), rr.outer()) },
+                        rr.deadzone(), p, pages, start, n, total);
+            }
+
+            // Concentric rings of fixed thickness; the innermost sits where a single ring would.
+            final int ringCount = (n + perRing - 1) / perRing;
+            final double thick = Math.max(8, c.ringThickness);
+            final int base = n / ringCount;
+            final int extra = n % ringCount;  // outer rings have more room, they take the remainder
+
+            Ring[] rings = new Ring[ringCount];
+            double inner = Math.max(8, c.baseOuterRadius - thick);
+            int first = 0;
+            for (int r = 0; r < ringCount; r++) {
+                int count = base + ((r >= ringCount - extra) ? 1 : 0);
+                rings[r] = new Ring(first, count, inner, inner + thick);
+                first += count;
+                inner += thick + RING_GAP;
+            }
+            return new RadialLayout(rings, c.deadzone, p, pages, start, n, total);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] RadialLayout.compute error: {}", Constants.MOD_NAME, t.toString());
+            int n = Math.max(0, totalItems);
+            return new RadialLayout(new Ring[]{ new Ring(0, n, 42.0, 72.0) }, 18, 0, 1, 0, n, n);
+        }
+    }
+
+    /** Single-ring layout over explicit radii (compatibility for callers that still pass Radii). */
+    public static RadialLayout single(int count, RadialScreenMath.Radii rr) {
+        int n = Math.max(0, count);
+        return new RadialLayout(new Ring[]{ new Ring(0, n, rr.inner(), rr.outer()) }, rr.deadzone(), 0, 1, 0, n, n);
+    }
+
+    /**
+     * Page-local slot under the cursor, or -1 inside the deadzone / on an empty page.
+     * Rings are split halfway across the gap; anything beyond the outermost ring maps to it
+     * (no outer deadzone), anything between the deadzone and the innermost ring maps to that one.
+     */
+    public int pick(double mouseX, double mouseY, int cx, int cy) {
+        if (visible <= 0) return -1;
+        double dx = mouseX - cx;
+        double dy = mouseY - cy;
+        double dist2 = dx * dx + dy * dy;
+        if (dist2 < (double) deadzone * deadzone) return -1;
+
+        Ring ring = rings[rings.length - 1];
+        if (rings.length > 1) {
+            double dist = Math.sqrt(dist2);
+            for (int r = 0; r < rings.length - 1; r++) {
+                double split = (rings[r].outer + rings[r + 1].inner) * 0.5;
+                if (dist < split) { ring = rings[r]; break; }
+            }
+        }
+        if (ring.count <= 0) return -1;
+
+        double ang = Math.atan2(dy, dx) + Math.PI / 2.0; // 0 at top, clockwise
+        if (ang < 0) ang += Math.PI * 2.0;
+        int local = (int) (ang / ring.step);
+        if (local >= ring.count) local = ring.count - 1;
+        return ring.first + local;
+    }
+
+    /** Ring holding page-local {@code slot}, or null. */
+    public Ring ringOf(int slot) {
+        if (slot < 0 || slot >= visible) return null;
+        for (Ring r : rings) {
+            if (slot < r.first + r.count) return r;
+        }
+        return null;
+    }
+
+    public Ring[] rings() { return rings; }
+
+    /** Slots shown on this page. */
+    public int visible() { return visible; }
+
+    /** Category item index for page-local {@code slot}. */
+    public int itemIndex(int slot) { return pageStart + slot; }
+
+    /** Page-local slot for category item index {@code itemIndex}, or -1 if it is on another page. */
+    public int slotOf(int itemIndex) {
+        int s = itemIndex - pageStart;
+        return (s < 0 || s >= visible) ? -1 : s;
+    }
+
+    public int page() { return page; }
+
+    public int pageCount() { return pageCount; }
+
+    public int totalItems() { return totalItems; }
+
+    /** Outer radius of the outermost ring (for placing the page indicator). */
+    public double outerRadius() { return rings[rings.length - 1].outer; }
+
+    private static int perRing(RadialConfig c) {
+        return Math.max(4, Math.min(64, c.maxItemsPerRing));
+    }
+
+    private static int maxRings(RadialConfig c) {
+        return Math.max(1, Math.min(4, c.maxRings));
+    }
+}
@@ -5,16 +5,22 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.ConfigSnapshot;
 import org.z2six.ezactions.config.RadialAnimConfigView;
 import org.z2six.ezactions.data.menu.MenuItem;
 import org.z2six.ezactions.data.menu.RadialMenu;
-import org.z2six.ezactions.gui.RadialScreenMath.Radii;
+import org.z2six.ezactions.data.menu.UsageTracker;
 import org.z2six.ezactions.gui.anim.RadialTransition;
 import org.z2six.ezactions.gui.anim.SliceHoverAnim;
 import org.z2six.ezactions.gui.noblur.NoMenuBlurScreen;
 import org.z2six.ezactions.handler.KeyboardHandler;
+import org.z2six.ezactions.helper.ActionDispatcher;
+import org.z2six.ezactions.helper.ClientTaskQueue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 /**
  * Radial menu:
@@ -22,15 +28,52 @@ import java.util.List;
  * - Game continues; mouse is used for selection.
  * - LMB on action: close+execute; LMB on category: drill in (stay open).
  * - RMB: go back.
+ *
+ * Category navigation happens in place: the same screen swaps its page, playing the
+ * CAT_WIPE_OUT / CAT_WIPE_IN phases when open/close animations are enabled. Large categories
+ * are laid out on concentric rings and, past maxItemsPerRing x maxRings, split into pages that
+ * the mouse wheel flips through. Page geometry ({@link RadialLayout}) is cached for the lifetime
+ * of the screen.
+ *
+ * Every frame is drawn at one {@link RenderQuality} tier; each render's duration is reported back
+ * so the AUTO profile can adapt.
  */
 public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
 
+    /** Hovered item as an index into the category's item list (not the page-local slot). */
     private int hoveredIndex = -1;
+    /** How many top-used actions are pre-resolved when the radial opens. */
+    private static final int WARM_COUNT = 6;
+    /** Wheel page within the current category. */
+    private int pageIndex = 0;
+
+    // Category wipe timings from the anim defaults (its view class shares a name with config's)
+    private static final int CAT_WIPE_OUT_MS = org.z2six.ezactions.gui.anim.RadialAnimConfigView.categoryWipeOutMs();
+    private static final int CAT_WIPE_IN_MS = org.z2six.ezactions.gui.anim.RadialAnimConfigView.categoryWipeInMs();
 
     // Anim state (open/close + hover)
     private final RadialTransition openTrans = new RadialTransition();
     private final SliceHoverAnim hoverAnim = new SliceHoverAnim();
 
+    // In-place page navigation: wipe-out of the previous page, then wipe-in of the new one
+    private final RadialTransition pageTrans = new RadialTransition();
+    private Page outgoing = null;
+
+    // Recent cursor samples for flick selection on release
+    private final FlickTracker flick = new FlickTracker();
+
+    // Geometry cache (layout depends only on item count, page and config)
+    private final Map<Long, RadialLayout> layouts = new HashMap<>();
+    private int layoutsConfig = -1; // ConfigSnapshot version the cached layouts were computed with
+    // Last page handed out; reused while the visible list, page index and config are unchanged
+    private Page cachedPage = null;
+    private int cachedPageConfig = -1;
+
+    /** A page snapshot: the category's items and the geometry of the shown page. */
+    private record Page(List<MenuItem> items, RadialLayout layout) {
+        int count() { return items == null ? 0 : items.size(); }
+    }
+
     public RadialMenuScreen() {
         super(Component.literal("ezactions Radial"));
     }
@@ -40,6 +83,22 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
         super.init();
         // Start open wipe (config will gate its usage during render)
         openTrans.start(+1);
+        RenderQuality.onOpen();
+        // Resolve the likeliest next actions on the next tick, off the first frame
+        ClientTaskQueue.post(RadialMenuScreen::warmLikelyActions);
+    }
+
+    /** Pre-resolve the most used actions so executing one costs no lookups. */
+    private static void warmLikelyActions() {
+        try {
+            final Minecraft mc = Minecraft.getInstance();
+            for (String id : UsageTracker.top(WARM_COUNT)) {
+                MenuItem mi = RadialMenu.findById(id);
+                if (mi != null && mi.action() != null) mi.action().warm(mc);
+            }
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Warming likely actions failed: {}", Constants.MOD_NAME, t.toString());
+        }
     }
 
     @Override
@@ -47,14 +106,17 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
 
     /** Called by KeyboardHandler on hotkey release (falling edge). */
     public void onHotkeyReleased() {
+        final long triggerNanos = System.nanoTime();
         try {
-            List<MenuItem> items = RadialMenu.currentItems();
+            Page page = currentPage();
+            List<MenuItem> items = page.items();
+            int idx = releaseIndex(page, triggerNanos);
             if (items != null && !items.isEmpty()
-                    && hoveredIndex >= 0 && hoveredIndex < items.size()) {
-                MenuItem mi = items.get(hoveredIndex);
+                    && idx >= 0 && idx < items.size()) {
+                MenuItem mi = items.get(idx);
                 if (!mi.isCategory()) {
                     KeyboardHandler.suppressReopenUntilReleased();
-                    executeAndClose(mi);
+                    executeAndClose(mi, triggerNanos, null); // the hotkey is already up
                     return;
                 }
             }
@@ -65,31 +127,91 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
         }
     }
 
+    /**
+     * Slice to act on at hotkey release: the hovered slice, unless the cursor was mid-flick,
+     * in which case the slice it was heading for.
+     */
+    private int releaseIndex(Page page, long nowNanos) {
+        if (pageTrans.phase() == RadialTransition.Phase.CAT_WIPE_OUT) return -1;
+        int idx = hoveredIndex;
+        try {
+            if (!ConfigSnapshot.get().flickSelection || page.layout().visible() <= 0) return idx;
+            final Minecraft mc = this.minecraft;
+            final var win = mc.getWindow();
+            double mx = mc.mouseHandler.xpos() * win.getGuiScaledWidth() / Math.max(1, win.getScreenWidth());
+            double my = mc.mouseHandler.ypos() * win.getGuiScaledHeight() / Math.max(1, win.getScreenHeight());
+            final int cx = this.width / 2;
+            final int cy = this.height / 2;
+
+            flick.sample(mx, my, nowNanos);
+            if (flick.resolve(mx, my, cx, cy, nowNanos)) {
+                int slot = page.layout().pick(flick.x(), flick.y(), cx, cy);
+                int f = (slot < 0) ? -1 : page.layout().itemIndex(slot);
+                if (f >= 0) {
+                    if (f != idx) {
+                        Constants.LOG.debug("[{}] Flick release: hovered={} -> flicked={}", Constants.MOD_NAME, idx, f);
+                    }
+                    idx = f;
+                }
+            }
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Flick resolve failed: {}", Constants.MOD_NAME, t.toString());
+        }
+        return idx;
+    }
+
     @Override
     public void render(GuiGraphics g, int mouseX, int mouseY, float partialTick) {
+        final long frameStart = System.nanoTime();
+        try {
+            renderRadial(g, mouseX, mouseY, partialTick);
+        } finally {
+            RenderQuality.recordFrame(System.nanoTime() - frameStart);
+        }
+    }
+
+    private void renderRadial(GuiGraphics g, int mouseX, int mouseY, float partialTick) {
+        final RenderQuality.Tier quality = RenderQuality.current();
         try {
-            List<MenuItem> items = RadialMenu.currentItems();
+            final long now = System.currentTimeMillis();
             final int cx = this.width / 2;
             final int cy = this.height / 2;
 
-            final int count = (items == null) ? 0 : items.size();
-            final Radii rr = RadialScreenMath.computeRadii(count);
+            // Decide open/close progress via config and quality tier
+            final RadialAnimConfigView view = RadialAnimConfigView.get();
+            final boolean wipes = quality.animations && view.animationsEnabled && view.animOpenClose;
+            float openProg = wipes ? openTrans.progress(now) : 1.0f;
 
-            hoveredIndex = (count <= 0)
-                    ? -1
-                    : RadialScreenMath.pickSector(mouseX, mouseY, cx, cy, count, rr);
+            // Page transition: finish wiping out the previous page before showing the new one
+            if (pageTrans.phase() == RadialTransition.Phase.CAT_WIPE_OUT) {
+                if (!pageTrans.isDone(now) && outgoing != null) {
+                    hoveredIndex = -1;
+                    float out = 1.0f - pageTrans.progress(now);
+                    RadialScreenDraw.drawRing(g, this.font, cx, cy, outgoing.items(), -1, outgoing.layout(), null,
+                            Math.min(openProg, out), quality);
+                    super.render(g, mouseX, mouseY, partialTick);
+                    return;
+                }
+                outgoing = null;
+                pageTrans.startCatWipeIn(now, CAT_WIPE_IN_MS);
+            }
+            if (pageTrans.phase() == RadialTransition.Phase.CAT_WIPE_IN) {
+                openProg = Math.min(openProg, pageTrans.progress(now));
+                if (pageTrans.isDone(now)) pageTrans.clear();
+            }
 
-            // Tick hover animation state
-            hoverAnim.tick(System.currentTimeMillis(), hoveredIndex, count);
+            final Page page = currentPage();
+            final RadialLayout layout = page.layout();
+            flick.sample(mouseX, mouseY, System.nanoTime());
 
-            // Decide open/close progress via config
-            final RadialAnimConfigView view = RadialAnimConfigView.get();
-            final float openProg = (view.animationsEnabled && view.animOpenClose)
-                    ? openTrans.progress()
-                    : 1.0f;
+            final int slot = layout.pick(mouseX, mouseY, cx, cy);
+            hoveredIndex = (slot < 0) ? -1 : layout.itemIndex(slot);
+
+            // Tick hover animation state (page-local slots); tiers without animations skip it
+            if (quality.animations) hoverAnim.tick(now, slot, layout.visible());
 
             // Draw ring with animations wired in
-            RadialScreenDraw.drawRing(g, this.font, cx, cy, items, hoveredIndex, rr, hoverAnim, openProg);
+            RadialScreenDraw.drawRing(g, this.font, cx, cy, page.items(), slot, layout, hoverAnim, openProg, quality);
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Radial render error: {}", Constants.MOD_NAME, t.toString());
         }
@@ -99,11 +221,11 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        final long triggerNanos = System.nanoTime();
         try {
             if (button == 1) { // RMB → back
                 if (RadialMenu.canGoBack()) {
-                    RadialMenu.goBack();
-                    this.minecraft.setScreen(new RadialMenuScreen());
+                    navigate(RadialMenu::goBack);
                 } else {
                     onClose();
                 }
@@ -111,18 +233,17 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
             }
 
             if (button == 0) { // LMB
-                List<MenuItem> items = RadialMenu.currentItems();
+                List<MenuItem> items = currentPage().items();
                 if (items == null || items.isEmpty()) return true;
                 if (hoveredIndex < 0 || hoveredIndex >= items.size()) return true;
 
                 MenuItem mi = items.get(hoveredIndex);
                 if (mi.isCategory()) {
-                    RadialMenu.enterCategory(mi);
-                    this.minecraft.setScreen(new RadialMenuScreen());
+                    navigate(() -> RadialMenu.enterCategory(mi));
                     return true;
                 } else {
                     KeyboardHandler.suppressReopenUntilReleased();
-                    executeAndClose(mi);
+                    executeAndClose(mi, triggerNanos, KeyboardHandler::isOpenHotkeyDown);
                     return true;
                 }
             }
@@ -132,22 +253,84 @@ public final class RadialMenuScreen extends Screen implements NoMenuBlurScreen {
         return super.mouseClicked(mouseX, mouseY, button);
     }
 
-    private void executeAndClose(MenuItem mi) {
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
         try {
-            Constants.LOG.info("[{}] Radial: execute action id='{}' title='{}' (closing then deferring)",
+            if (scrollY == 0.0 || pageTrans.phase() == RadialTransition.Phase.CAT_WIPE_OUT) return true;
+            List<MenuItem> items = RadialMenu.visibleItems();
+            int pages = RadialLayout.pageCount(items == null ? 0 : items.size());
+            if (pages <= 1) return true;
+            // Wheel down = next page, wrapping around
+            int next = Math.floorMod(pageIndex + (scrollY < 0 ? 1 : -1), pages);
+            if (next != pageIndex) {
+                pageIndex = next;
+                hoveredIndex = -1;
+                hoverAnim.reset();
+                flick.clear();
+            }
+            return true;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Radial mouseScrolled error: {}", Constants.MOD_NAME, t.toString());
+            return true;
+        }
+    }
+
+    /**
+     * Change page in place. With animations on, the current page wipes out first and the new one
+     * wipes in; otherwise the swap is instant. No new Screen is created.
+     */
+    private void navigate(Runnable pathChange) {
+        final RadialAnimConfigView view = RadialAnimConfigView.get();
+        final Page before = currentPage();
+
+        pathChange.run();
+        pageIndex = 0;
+        hoveredIndex = -1;
+        hoverAnim.reset();
+        flick.clear();
+
+        if (RenderQuality.current().animations && view.animationsEnabled && view.animOpenClose) {
+            outgoing = before;
+            pageTrans.startCatWipeOut(System.currentTimeMillis(), CAT_WIPE_OUT_MS);
+        } else {
+            outgoing = null;
+            pageTrans.clear();
+        }
+    }
+
+    /** Current page with cached geometry; the same instance while nothing it depends on changed. */
+    private Page currentPage() {
+        List<MenuItem> items = RadialMenu.visibleItems(); // cached list, same instance until it changes
+        int count = (items == null) ? 0 : items.size();
+        int cfg = ConfigSnapshot.version();
+        Page p = cachedPage;
+        if (p != null && p.items() == items && p.count() == count && p.layout().page() == pageIndex
+                && cachedPageConfig == cfg) {
+            return p;
+        }
+
+        int pages = RadialLayout.pageCount(count);
+        if (pageIndex >= pages) pageIndex = pages - 1;
+        final int page = pageIndex;
+        if (cfg != layoutsConfig) { // design edited while open: recompute geometry
+            layouts.clear();
+            layoutsConfig = cfg;
+        }
+        RadialLayout layout = layouts.computeIfAbsent(((long) count << 32) | page, k -> RadialLayout.compute(count, page));
+        cachedPage = new Page(items, layout);
+        cachedPageConfig = cfg;
+        return cachedPage;
+    }
+
+    /** {@code triggerHeld}: whether the key that triggered this is still down (null if already released). */
+    private void executeAndClose(MenuItem mi, long triggerNanos, BooleanSupplier triggerHeld) {
+        try {
+            Constants.LOG.info("[{}] Radial: execute action id='{}' title='{}'",
                     Constants.MOD_NAME, mi.id(), mi.title());
             Minecraft mc = this.minecraft;
-            onClose(); // close first
-            mc.execute(() -> {
-                try {
-                    boolean ok = mi.action() != null && mi.action().execute(mc);
-                    if (!ok) {
-                        Constants.LOG.info("[{}] Radial action returned false for '{}'", Constants.MOD_NAME, mi.id());
-                    }
-                } catch (Throwable t) {
-                    Constants.LOG.warn("[{}] Radial deferred execution error for '{}': {}", Constants.MOD_NAME, mi.id(), t.toString());
-                }
-            });
+            UsageTracker.record(mi.id());
+            onClose(); // close first so injected input hits gameplay, then run in the same frame
+            ActionDispatcher.dispatch(mc, mi, triggerNanos, triggerHeld);
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] executeAndClose error: {}", Constants.MOD_NAME, t.toString());
             onClose();
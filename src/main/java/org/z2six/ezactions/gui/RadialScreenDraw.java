@@ -20,14 +20,20 @@ public final class RadialScreenDraw {
 
     private RadialScreenDraw() {}
 
-    // Preferred path with radii + hover anim + openProgress
+    /**
+     * Preferred path: draws one page described by {@code layout}. {@code items} is the full category
+     * list; {@code hoveredSlot} and {@code hover} use page-local slot indices (see {@link RadialLayout}).
+     * {@code quality} sets slice tessellation, animations, icon detail and the center label.
+     */
     public static void drawRing(GuiGraphics g, Font font, int cx, int cy,
-                                List<MenuItem> items, int hoveredIdx,
-                                RadialScreenMath.Radii rr,
+                                List<MenuItem> items, int hoveredSlot,
+                                RadialLayout layout,
                                 SliceHoverAnim hover,
-                                float openProgress) {
+                                float openProgress,
+                                RenderQuality.Tier quality) {
         try {
-            if (items == null || items.isEmpty()) {
+            final RenderQuality.Tier q = quality == null ? RenderQuality.Tier.HIGH : quality;
+            if (items == null || items.isEmpty() || layout == null || layout.visible() <= 0) {
                 // Minimal crosshair only (no hint text)
                 g.fill(cx - 1, cy - 6, cx + 1, cy + 6, 0xFFFFFFFF);
                 g.fill(cx - 6, cy - 1, cx + 6, cy + 1, 0xFFFFFFFF);
@@ -37,102 +43,81 @@ public final class RadialScreenDraw {
             RadialConfig cfg = RadialConfig.get();
             RadialAnimConfigView anim = RadialAnimConfigView.get();
 
-            final int n = Math.max(1, items.size());
-            final double step = Math.PI * 2.0 / n;
+            final boolean wipe = q.animations && anim.animationsEnabled && anim.animOpenClose;
+            final boolean hoverAnim = q.animations && anim.animationsEnabled && anim.animHover && hover != null;
+            final double growPct = 0.05; // keep consistent with view defaults
 
             // Open/close wipe: sweep limit in absolute angle; start at -PI/2 (12 o'clock).
             final double sweepLimit = (-Math.PI / 2.0) + clamp01(openProgress) * (Math.PI * 2.0);
 
             // Draw all base slices (ringColor), clipped by open/close sweep if enabled
-            for (int i = 0; i < n; i++) {
-                double a0 = (-Math.PI / 2.0) + i * step;
-                double a1 = a0 + step;
-
-                // Apply wipe: skip fully hidden; clamp partially visible
-                if (anim.animationsEnabled && anim.animOpenClose) {
-                    if (sweepLimit <= a0) continue;                 // not yet revealed
-                    if (sweepLimit < a1) a1 = sweepLimit;           // partially revealed
-                }
-
-                int color = cfg.ringColor;
-                double rInner = rr.inner();
-                double rOuter = rr.outer();
-
-                // Hover grow (pop-out) – outer-only expansion
-                if (anim.animationsEnabled && anim.animHover && hover != null) {
-                    float grow = clamp01(hover.scaleFor(i));  // 0..1
-                    if (grow > 0f) {
-                        final double growPct = 0.05; // keep consistent with view defaults
-                        rOuter = rOuter * (1.0 + growPct * grow);
+            for (RadialLayout.Ring ring : layout.rings()) {
+                for (int i = 0; i < ring.count; i++) {
+                    double a0 = ring.a0(i);
+                    double a1 = ring.a1(i);
+
+                    // Apply wipe: skip fully hidden; clamp partially visible
+                    if (wipe) {
+                        if (sweepLimit <= a0) continue;                 // not yet revealed
+                        if (sweepLimit < a1) a1 = sweepLimit;           // partially revealed
                     }
-                }
 
-                fillRingSector(g, cx, cy, rInner, rOuter, a0, a1, color);
-            }
-
-            // If animations are OFF, still highlight hovered slice (instant red)
-            if (!(anim.animationsEnabled && anim.animHover) && hoveredIdx >= 0 && hoveredIdx < n) {
-                double a0 = (-Math.PI / 2.0) + hoveredIdx * step;
-                double a1 = a0 + step;
+                    double rOuter = ring.outer;
 
-                if (anim.animOpenClose) {
-                    if (sweepLimit > a0) {
-                        if (sweepLimit < a1) a1 = sweepLimit;
-                        fillRingSector(g, cx, cy, rr.inner(), rr.outer(), a0, a1, cfg.hoverColor);
+                    // Hover grow (pop-out) – outer-only expansion
+                    if (hoverAnim) {
+                        float grow = clamp01(hover.scaleFor(ring.first + i));  // 0..1
+                        if (grow > 0f) rOuter = rOuter * (1.0 + growPct * grow);
                     }
-                } else {
-                    fillRingSector(g, cx, cy, rr.inner(), rr.outer(), a0, a1, cfg.hoverColor);
+
+                    fillRingSector(g, cx, cy, ring.inner, rOuter, a0, a1, cfg.ringColor, q);
                 }
             }
 
-            // Hover colorization overlay — inside→out radial fill on the hovered slice
-            if (anim.animationsEnabled && anim.animHover && hover != null && hoveredIdx >= 0 && hoveredIdx < n) {
-                int i = hoveredIdx;
-                double a0 = (-Math.PI / 2.0) + i * step;
-                double a1 = a0 + step;
-
-                if (anim.animOpenClose) {
-                    if (sweepLimit > a0) {
-                        if (sweepLimit < a1) a1 = sweepLimit;
-                        float sweep = clamp01(hover.sweepFor(i)); // 0..1 radial factor
+            final RadialLayout.Ring hoveredRing = layout.ringOf(hoveredSlot);
+            if (hoveredRing != null) {
+                int i = hoveredSlot - hoveredRing.first;
+                double a0 = hoveredRing.a0(i);
+                double a1 = hoveredRing.a1(i);
+                boolean shown = !wipe || sweepLimit > a0;
+                if (wipe && sweepLimit < a1) a1 = sweepLimit;
+
+                if (shown) {
+                    if (!hoverAnim) {
+                        // If animations are OFF, still highlight hovered slice (instant red)
+                        fillRingSector(g, cx, cy, hoveredRing.inner, hoveredRing.outer, a0, a1, cfg.hoverColor, q);
+                    } else {
+                        // Hover colorization overlay — inside→out radial fill on the hovered slice
+                        float sweep = clamp01(hover.sweepFor(hoveredSlot)); // 0..1 radial factor
                         if (sweep > 0f) {
-                            double rInner = rr.inner();
-                            double rOuterFill = rInner + (rr.outer() - rInner) * sweep;
-                            fillRingSector(g, cx, cy, rInner, rOuterFill, a0, a1, cfg.hoverColor);
+                            double rOuterFill = hoveredRing.inner + (hoveredRing.outer - hoveredRing.inner) * sweep;
+                            fillRingSector(g, cx, cy, hoveredRing.inner, rOuterFill, a0, a1, cfg.hoverColor, q);
                         }
                     }
-                } else {
-                    float sweep = clamp01(hover.sweepFor(hoveredIdx)); // 0..1 radial factor
-                    if (sweep > 0f) {
-                        double rInner = rr.inner();
-                        double rOuterFill = rInner + (rr.outer() - rInner) * sweep;
-                        fillRingSector(g, cx, cy, rInner, rOuterFill, a0, a1, cfg.hoverColor);
-                    }
                 }
             }
 
             // Draw icons centered along each slice (nudge outward on grow for hovered look)
-            final double rMidBase = (rr.inner() + rr.outer()) * 0.5;
-            for (int i = 0; i < n; i++) {
-                double ang = (-Math.PI / 2.0) + (i + 0.5) * step;
-
-                double rMid = rMidBase;
-                if (anim.animationsEnabled && anim.animHover && hover != null) {
-                    float grow = clamp01(hover.scaleFor(i));
-                    if (grow > 0f) {
-                        final double growPct = 0.05; // in sync with slice grow
-                        rMid = rMid * (1.0 + (growPct * 0.5) * grow);
+            for (RadialLayout.Ring ring : layout.rings()) {
+                final double rMidBase = (ring.inner + ring.outer) * 0.5;
+                for (int i = 0; i < ring.count; i++) {
+                    int idx = layout.itemIndex(ring.first + i);
+                    if (idx < 0 || idx >= items.size()) continue;
+
+                    double rMid = rMidBase;
+                    if (hoverAnim) {
+                        float grow = clamp01(hover.scaleFor(ring.first + i));
+                        if (grow > 0f) rMid = rMid * (1.0 + (growPct * 0.5) * grow); // in sync with slice grow
                     }
-                }
 
-                int ix = cx + (int)Math.round(Math.cos(ang) * rMid);
-                int iy = cy + (int)Math.round(Math.sin(ang) * rMid);
-                if (i < items.size()) {
-                    IconRenderer.drawIcon(g, ix, iy, items.get(i).icon());
+                    int ix = cx + (int)Math.round(ring.midCos(i) * rMid);
+                    int iy = cy + (int)Math.round(ring.midSin(i) * rMid);
+                    IconRenderer.drawIcon(g, ix, iy, items.get(idx).icon(), q.liveIcons);
                 }
             }
 
-            // NEW: Center label for the currently hovered item (exact screen/radial center)
+            // Center label for the currently hovered item (exact screen/radial center)
+            int hoveredIdx = hoveredRing == null || !q.labels ? -1 : layout.itemIndex(hoveredSlot);
             if (hoveredIdx >= 0 && hoveredIdx < items.size()) {
                 try {
                     String label = items.get(hoveredIdx).title();
@@ -146,34 +131,61 @@ public final class RadialScreenDraw {
                     Constants.LOG.debug("[{}] Center label draw failed: {}", Constants.MOD_NAME, t.toString());
                 }
             }
+
+            // Page indicator below the outermost ring (only when the category spans several pages)
+            if (layout.pageCount() > 1) {
+                String pg = (layout.page() + 1) + " / " + layout.pageCount();
+                int py = cy + (int)Math.ceil(layout.outerRadius() * (1.0 + growPct)) + 6;
+                g.drawString(font, pg, cx - (font.width(pg) / 2), py, 0xFFA0A0A0, false);
+            }
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] drawRing error: {}", Constants.MOD_NAME, t.toString());
         }
     }
 
+    // Compatibility: quality from the current profile
+    public static void drawRing(GuiGraphics g, Font font, int cx, int cy,
+                                List<MenuItem> items, int hoveredSlot,
+                                RadialLayout layout,
+                                SliceHoverAnim hover,
+                                float openProgress) {
+        drawRing(g, font, cx, cy, items, hoveredSlot, layout, hover, openProgress, RenderQuality.current());
+    }
+
+    // Compatibility: single ring over explicit radii + hover anim + openProgress
+    public static void drawRing(GuiGraphics g, Font font, int cx, int cy,
+                                List<MenuItem> items, int hoveredIdx,
+                                RadialScreenMath.Radii rr,
+                                SliceHoverAnim hover,
+                                float openProgress) {
+        RadialLayout layout = RadialLayout.single(items == null ? 0 : items.size(), rr);
+        drawRing(g, font, cx, cy, items, hoveredIdx, layout, hover, openProgress);
+    }
+
     // Compatibility: radii only (no anims)
     public static void drawRing(GuiGraphics g, Font font, int cx, int cy,
                                 List<MenuItem> items, int hoveredIdx, RadialScreenMath.Radii rr) {
         drawRing(g, font, cx, cy, items, hoveredIdx, rr, null, 1.0f);
     }
 
-    // Compatibility: minimal signature
+    // Compatibility: minimal signature (first page of the paged layout)
     public static void drawRing(GuiGraphics g, Font font, int cx, int cy,
                                 List<MenuItem> items, int hoveredIdx) {
-        RadialScreenMath.Radii rr = RadialScreenMath.computeRadii(items == null ? 0 : items.size());
-        drawRing(g, font, cx, cy, items, hoveredIdx, rr, null, 1.0f);
+        RadialLayout layout = RadialLayout.compute(items == null ? 0 : items.size(), 0);
+        drawRing(g, font, cx, cy, items, hoveredIdx, layout, null, 1.0f);
     }
 
     // --- Internal: filled ring sector ---------------------------------------
 
-    /** Filled sector of a ring (anti-aliased via enough segments). ARGB color. */
+    /** Filled sector of a ring (smoothness from the quality tier's segment density). ARGB color. */
     private static void fillRingSector(GuiGraphics g, int cx, int cy,
                                        double rInner, double rOuter,
-                                       double a0, double a1, int argb) {
+                                       double a0, double a1, int argb,
+                                       RenderQuality.Tier q) {
         try {
             if (a1 <= a0) return;
 
-            int segs = Math.max(12, (int)Math.ceil((a1 - a0) * 48)); // smoothness
+            int segs = Math.max(q.minSegs, (int)Math.ceil((a1 - a0) * q.segsPerRadian));
 
             float a = ((argb >>> 24) & 0xFF) / 255f;
             float r = ((argb >>> 16) & 0xFF) / 255f;
@@ -26,32 +26,4 @@ public final class RadialScreenMath {
     }
 
     public record Radii(double inner, double outer, int deadzone) {}
-
-    /**
-     * Pick sector index or -1 if the cursor is inside the inner deadzone.
-     * Angles start at the top (12 o'clock) and increase clockwise.
-     * NOTE: No outer deadzone anymore — any distance beyond the ring still maps to a sector.
-     */
-    public static int pickSector(double mouseX, double mouseY, int cx, int cy, int sectors, Radii rr) {
-        try {
-            if (sectors <= 0) return -1;
-
-            double dx = mouseX - cx;
-            double dy = mouseY - cy;
-            double dist2 = dx * dx + dy * dy;
-
-            if (dist2 < (double) rr.deadzone() * rr.deadzone()) return -1;
-
-            double ang = Math.atan2(dy, dx); // [-pi, +pi], 0 on +X
-            ang += Math.PI / 2.0;            // 0 at top
-            if (ang < 0) ang += Math.PI * 2.0;
-
-            double step = (Math.PI * 2.0) / sectors;
-            int idx = (int) Math.floor(ang / step);
-            return (idx < 0 || idx >= sectors) ? -1 : idx;
-        } catch (Throwable t) {
-            Constants.LOG.warn("[{}] pickSector error: {}", Constants.MOD_NAME, t.toString());
-            return -1;
-        }
-    }
 }
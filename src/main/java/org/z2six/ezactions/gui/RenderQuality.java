@@ -0,0 +1,109 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/RenderQuality.java
+package org.z2six.ezactions.gui;
+
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.RadialAnimConfig;
+import org.z2six.ezactions.config.RadialAnimConfigView;
+
+/**
+ * Render quality tiers for the radial and the AUTO profile's frame-time adaptation.
+ *
+ * A fixed profile (LOW/MEDIUM/HIGH) maps straight to its tier. AUTO keeps a rolling window of
+ * {@link RadialMenuScreen#render} durations; once the window is full, an average above
+ * autoDowngradeMs steps one tier down and an average below autoUpgradeMs steps one tier up.
+ * The window is cleared after every step, so the next decision is based on frames drawn at the
+ * new tier. The AUTO tier persists across radial opens. Client thread only; never throws.
+ */
+public final class RenderQuality {
+
+    private RenderQuality() {}
+
+    /** What one tier draws. HIGH matches the radial's full look. */
+    public enum Tier {
+        //   segs/rad, min segs, animations, live icons, center label
+        LOW   (16,  4, false, false, false),
+        MEDIUM(32,  8, true,  false, true),
+        HIGH  (48, 12, true,  true,  true);
+
+        /** Ring sector tessellation: segments per radian of arc, and the floor per sector. */
+        public final int segsPerRadian;
+        public final int minSegs;
+        /** Open/close, page wipe and hover animations (still subject to the animation config). */
+        public final boolean animations;
+        /** Item icons with entity/level context (animated model overrides); otherwise static models. */
+        public final boolean liveIcons;
+        /** Hovered item's title in the center. */
+        public final boolean labels;
+
+        Tier(int segsPerRadian, int minSegs, boolean animations, boolean liveIcons, boolean labels) {
+            this.segsPerRadian = segsPerRadian;
+            this.minSegs = minSegs;
+            this.animations = animations;
+            this.liveIcons = liveIcons;
+            this.labels = labels;
+        }
+    }
+
+    private static final int WINDOW = 30;
+    private static final long[] SAMPLES = new long[WINDOW];
+    private static int head = 0;
+    private static int count = 0;
+    private static long sum = 0L;
+    private static Tier autoTier = Tier.HIGH;
+
+    /** Tier to draw the current frame with. */
+    public static Tier current() {
+        try {
+            return switch (RadialAnimConfigView.get().qualityProfile) {
+                case LOW -> Tier.LOW;
+                case MEDIUM -> Tier.MEDIUM;
+                case HIGH -> Tier.HIGH;
+                case AUTO -> autoTier;
+            };
+        } catch (Throwable t) {
+            return Tier.HIGH;
+        }
+    }
+
+    /** Radial opened: start a fresh window (the first frames include one-off uploads). */
+    public static void onOpen() {
+        clearWindow();
+    }
+
+    /** Record one radial frame's render duration; adapts the AUTO tier. */
+    public static void recordFrame(long nanos) {
+        try {
+            RadialAnimConfigView view = RadialAnimConfigView.get();
+            if (view.qualityProfile != RadialAnimConfig.QualityProfile.AUTO) return;
+
+            if (count == WINDOW) sum -= SAMPLES[head];
+            else count++;
+            SAMPLES[head] = nanos;
+            sum += nanos;
+            head = (head + 1) % WINDOW;
+            if (count < WINDOW) return;
+
+            double avgMs = sum / (double) WINDOW / 1_000_000.0;
+            Tier next = autoTier;
+            if (avgMs > view.autoDowngradeMs && autoTier.ordinal() > 0) {
+                next = Tier.values()[autoTier.ordinal() - 1];
+            } else if (avgMs < view.autoUpgradeMs && autoTier.ordinal() < Tier.values().length - 1) {
+                next = Tier.values()[autoTier.ordinal() + 1];
+            }
+            if (next != autoTier) {
+                Constants.LOG.debug("[{}] Radial quality {} -> {} (avg render {} ms).",
+                        Constants.MOD_NAME, autoTier, next, String.format("%.2f", avgMs));
+                autoTier = next;
+                clearWindow();
+            }
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Render quality sample failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    private static void clearWindow() {
+        head = 0;
+        count = 0;
+        sum = 0L;
+    }
+}
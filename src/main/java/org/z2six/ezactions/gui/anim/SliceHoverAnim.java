@@ -72,6 +72,15 @@ public final class SliceHoverAnim {
         }
     }
 
+    /** Drop all per-slice state (e.g. when the radial switches to another page). */
+    public void reset() {
+        this.sliceCount = 0;
+        this.hovered = -1;
+        this.lastTickMs = 0L;
+        this.grow  = new float[0];
+        this.sweep = new float[0];
+    }
+
     /** 0..1 grow for slice index. */
     public float scaleFor(int index) {
         if (index < 0 || index >= grow.length) return 0f;
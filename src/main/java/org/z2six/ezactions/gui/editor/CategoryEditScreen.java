@@ -3,7 +3,9 @@ package org.z2six.ezactions.gui.editor;
 
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.CycleButton;
 import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
@@ -50,6 +52,7 @@ public final class CategoryEditScreen extends Screen {
     private String draftTitle = "";
     private String draftNote  = "";
     private IconSpec draftIcon = IconSpec.item("minecraft:stone");
+    private boolean draftSmartOrder = false;
 
     // Widgets
     private EditBox titleBox;
@@ -64,6 +67,7 @@ public final class CategoryEditScreen extends Screen {
             this.draftTitle = safe(editing.title());
             try { this.draftNote = safe(editing.note()); } catch (Throwable ignored) {}
             if (editing.icon() != null) this.draftIcon = editing.icon();
+            this.draftSmartOrder = editing.smartOrder();
         }
     }
 
@@ -96,13 +100,16 @@ public final class CategoryEditScreen extends Screen {
         // First button row offset (10px after element above)
         y += FIRST_BUTTON_ROW_OFFSET;
 
-        // Row 1: Icon picker
+        // Row 1: Icon picker + smart order toggle
         addRenderableWidget(Button.builder(Component.literal("Choose Icon"), b -> {
             this.minecraft.setScreen(new IconPickerScreen(this, ic -> {
                 draftIcon = (ic == null) ? IconSpec.item("minecraft:stone") : ic;
                 this.minecraft.setScreen(this);
             }));
-        }).bounds(cx - 140, y, 280, 20).build());
+        }).bounds(cx - 140, y, 138, 20).build());
+        addRenderableWidget(CycleButton.onOffBuilder(draftSmartOrder)
+                .withTooltip(v -> Tooltip.create(Component.literal("Sort this bundle's actions by how often and how recently you use them.")))
+                .create(cx + 2, y, 138, 20, Component.literal("Smart Order"), (btn, v) -> draftSmartOrder = v));
         y += 20 + BETWEEN_BUTTON_ROWS;
 
         // Row 2: Save / Cancel / Back
@@ -142,7 +149,9 @@ public final class CategoryEditScreen extends Screen {
                     draftNote,
                     draftIcon,
                     null, // action == null => category
-                    children
+                    children,
+                    editing != null ? editing.condition() : null, // keep conditions authored in menu.json
+                    draftSmartOrder
             );
 
             boolean ok = (editing == null)
@@ -5,18 +5,23 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.components.MultiLineEditBox;
+import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.config.GeneralClientConfig;
 import org.z2six.ezactions.data.click.ClickActionCommand;
+import org.z2six.ezactions.data.click.CommandTemplate;
 import org.z2six.ezactions.data.icon.IconSpec;
+import org.z2six.ezactions.data.menu.KeyChord;
 import org.z2six.ezactions.data.menu.MenuItem;
 import org.z2six.ezactions.data.menu.RadialMenu;
 import org.z2six.ezactions.gui.IconRenderer;
+import org.z2six.ezactions.util.CommandValidator;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 /**
  * // MainFile: src/main/java/org/z2six/ezactions/gui/editor/CommandActionEditScreen.java
@@ -51,12 +56,16 @@ public final class CommandActionEditScreen extends Screen {
     private String   draftCommand = "/say hi";
     private int      draftDelayTicks = 0;
     private IconSpec draftIcon    = IconSpec.item("minecraft:stone");
+    private KeyChord draftHotkey  = null;
 
     // Widgets
     private EditBox titleBox;
     private EditBox noteBox;
     private MultiLineEditBox cmdBox;
     private EditBox delayBox;
+    /** First line the client command tree rejects ("Line N: ..."), or null. */
+    private String cmdIssue;
+    private HotkeyButton hotkeyButton;
 
     public CommandActionEditScreen(Screen parent, MenuItem editing) {
         super(Component.literal(editing == null ? "Add Command" : "Edit Command"));
@@ -78,6 +87,7 @@ public final class CommandActionEditScreen extends Screen {
             this.draftDelayTicks = Math.max(0, delay);
 
             if (editing.icon() != null) this.draftIcon = editing.icon();
+            this.draftHotkey = editing.hotkey();
         }
     }
 
@@ -167,7 +177,13 @@ public final class CommandActionEditScreen extends Screen {
         );
         cmdBox.setCharacterLimit(32767);
         cmdBox.setValue(draftCommand);
-        cmdBox.setValueListener(s -> draftCommand = safe(s));
+        cmdBox.setValueListener(s -> {
+            draftCommand = safe(s);
+            revalidate();
+        });
+        revalidate();
+        cmdBox.setTooltip(Tooltip.create(Component.literal("One command per line. Variables: " + CommandTemplate.HELP
+                + " (coordinates take offsets, e.g. {y+1}).")));
         addRenderableWidget(cmdBox);
         y += cmdH + FIELD_TO_NEXT_LABEL + LABEL_TO_FIELD;
 
@@ -187,13 +203,15 @@ public final class CommandActionEditScreen extends Screen {
         // First button row offset (10px after element above)
         y += FIRST_BUTTON_ROW_OFFSET;
 
-        // Row 1: icon picker
+        // Row 1: icon picker + direct hotkey
         addRenderableWidget(Button.builder(Component.literal("Choose Icon"), b -> {
             this.minecraft.setScreen(new IconPickerScreen(this, ic -> {
                 draftIcon = (ic == null) ? IconSpec.item("minecraft:stone") : ic;
                 this.minecraft.setScreen(this);
             }));
-        }).bounds(cx - 160, y, 320, 20).build());
+        }).bounds(cx - 160, y, 156, 20).build());
+        hotkeyButton = addRenderableWidget(new HotkeyButton(cx + 4, y, 156, 20,
+                draftHotkey, editing == null ? null : editing.id(), c -> draftHotkey = c));
         y += 20 + BETWEEN_BUTTON_ROWS;
 
         // Row 2: Save / Cancel / Back
@@ -206,6 +224,12 @@ public final class CommandActionEditScreen extends Screen {
         // --- end button stack ---
     }
 
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (hotkeyButton != null && hotkeyButton.captureKey(keyCode, modifiers)) return true;
+        return super.keyPressed(keyCode, scanCode, modifiers);
+    }
+
     private void onSavePressed() {
         try {
             draftTitle   = safe(titleBox == null ? draftTitle : titleBox.getValue()).trim();
@@ -231,7 +255,10 @@ public final class CommandActionEditScreen extends Screen {
                     draftNote,
                     draftIcon,
                     new ClickActionCommand(draftCommand, draftDelayTicks),
-                    java.util.List.of()
+                    java.util.List.of(),
+                    editing != null ? editing.condition() : null, // keep conditions authored in menu.json
+                    false,
+                    draftHotkey
             );
 
             boolean ok = (editing == null)
@@ -251,6 +278,16 @@ public final class CommandActionEditScreen extends Screen {
         }
     }
 
+    /** Pre-parse the draft against the server's command tree (cached per line). */
+    private void revalidate() {
+        try {
+            cmdIssue = CommandValidator.firstIssue(this.minecraft,
+                    Arrays.asList(ClickActionCommand.splitLinesNormalized(draftCommand)));
+        } catch (Throwable t) {
+            cmdIssue = null;
+        }
+    }
+
     @Override
     public void render(GuiGraphics g, int mouseX, int mouseY, float partialTick) {
         // Background
@@ -272,6 +309,10 @@ public final class CommandActionEditScreen extends Screen {
         }
         if (delayBox != null) {
             g.drawString(this.font, "Multi-command delay (ticks):", labelX, delayBox.getY() - LABEL_TO_FIELD, 0xA0A0A0);
+            if (cmdIssue != null) {
+                String issue = this.font.plainSubstrByWidth(cmdIssue, 232);
+                g.drawString(this.font, issue, delayBox.getX() + delayBox.getWidth() + 8, delayBox.getY() + 6, 0xFF5555);
+            }
         }
 
         // Icon preview (top-right)
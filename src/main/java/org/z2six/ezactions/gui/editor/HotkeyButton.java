@@ -0,0 +1,75 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/editor/HotkeyButton.java
+package org.z2six.ezactions.gui.editor;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.components.Tooltip;
+import net.minecraft.network.chat.Component;
+import org.lwjgl.glfw.GLFW;
+import org.z2six.ezactions.data.menu.KeyChord;
+import org.z2six.ezactions.handler.HotkeyDispatch;
+
+import java.util.function.Consumer;
+
+/**
+ * Button that captures a direct hotkey for a menu item.
+ * Click it, then press a key (with Ctrl/Shift/Alt as needed). Backspace/Delete clears, Esc cancels.
+ * The owning screen must forward keyPressed to {@link #captureKey} first.
+ */
+public final class HotkeyButton extends Button {
+
+    private final String selfId;
+    private final Consumer<KeyChord> onChange;
+    private KeyChord chord;
+    private boolean capturing = false;
+
+    public HotkeyButton(int x, int y, int w, int h, KeyChord initial, String selfId, Consumer<KeyChord> onChange) {
+        super(x, y, w, h, Component.empty(), b -> ((HotkeyButton) b).toggleCapture(), DEFAULT_NARRATION);
+        this.selfId = selfId;
+        this.onChange = onChange;
+        this.chord = initial;
+        refresh();
+    }
+
+    public KeyChord chord() { return chord; }
+
+    /** Returns true if the key was consumed by an active capture. */
+    public boolean captureKey(int keyCode, int modifiers) {
+        if (!capturing) return false;
+        if (keyCode == GLFW.GLFW_KEY_ESCAPE) {
+            capturing = false;
+        } else if (keyCode == GLFW.GLFW_KEY_BACKSPACE || keyCode == GLFW.GLFW_KEY_DELETE) {
+            set(null);
+        } else if (KeyChord.isModifierKey(keyCode)) {
+            return true; // wait for the main key
+        } else {
+            set(new KeyChord(keyCode, modifiers));
+        }
+        refresh();
+        return true;
+    }
+
+    private void toggleCapture() {
+        capturing = !capturing;
+        refresh();
+    }
+
+    private void set(KeyChord c) {
+        chord = c;
+        capturing = false;
+        if (onChange != null) onChange.accept(c);
+    }
+
+    private void refresh() {
+        if (capturing) {
+            setMessage(Component.literal("> Press a key… <"));
+            setTooltip(Tooltip.create(Component.literal("Backspace clears, Esc cancels.")));
+            return;
+        }
+        setMessage(Component.literal("Hotkey: " + (chord == null ? "None" : chord.displayName())));
+        String clash = HotkeyDispatch.describeConflicts(Minecraft.getInstance(), chord, selfId);
+        setTooltip(Tooltip.create(Component.literal(clash == null
+                ? "Runs this action directly, without opening the radial."
+                : "Conflicts with " + clash)));
+    }
+}
@@ -0,0 +1,131 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/editor/IconCatalog.java
+package org.z2six.ezactions.gui.editor;
+
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.locale.Language;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.tags.TagKey;
+import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import org.z2six.ezactions.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Process-wide list of pickable icons (all registered items), shared by every IconPickerScreen.
+ *
+ * Built once on the background executor after registries are frozen (load complete), presorted,
+ * with localized display names and an {@link IconSearchIndex} (which also covers item tags)
+ * precomputed. The picker reads the published {@link Snapshot}; while a build is running
+ * {@link #get()} returns null and the picker shows a placeholder. A language change or resource reload (a new {@link Language} instance)
+ * or new tags from the server rebuild the catalog in the background. A failed build is not retried
+ * until the language or tags change (the picker asks every frame).
+ *
+ * Snapshots are immutable and published through a volatile field. Never throws.
+ */
+public final class IconCatalog {
+
+    private IconCatalog() {}
+
+    /** Parallel arrays sorted by id (case-insensitive). Do not mutate. */
+    public record Snapshot(String[] ids, String[] names, IconSearchIndex index,
+                           Language language, int tagsVersion) {
+        public int size() { return ids.length; }
+    }
+
+    private static volatile Snapshot snapshot = null;
+    private static volatile CompletableFuture<Snapshot> building = null;
+    private static volatile Language buildingLanguage = null;
+    private static volatile int buildingTags = -1;
+    private static volatile int tagsVersion = 0;
+
+    /** MOD bus (client): registries are frozen, start the first build. */
+    public static void onLoadComplete(FMLLoadCompleteEvent e) {
+        Minecraft.getInstance().execute(IconCatalog::get);
+    }
+
+    /** GAME bus: the client received (new) tags; tag search terms need a rebuild. */
+    public static void onTagsUpdated(TagsUpdatedEvent e) {
+        if (e.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) tagsVersion++;
+    }
+
+    /**
+     * The current catalog, or null while it is being (re)built. Kicks off a build when there is
+     * none yet or the language or tags changed. Client thread.
+     */
+    public static Snapshot get() {
+        try {
+            Language lang = Language.getInstance();
+            int tags = tagsVersion;
+            Snapshot s = snapshot;
+            if (s != null && s.language() == lang && s.tagsVersion() == tags) return s;
+            if (building == null || buildingLanguage != lang || buildingTags != tags) {
+                buildingLanguage = lang;
+                buildingTags = tags;
+                CompletableFuture<Snapshot> f = CompletableFuture.supplyAsync(() -> build(lang, tags), Util.backgroundExecutor());
+                building = f;
+                f.whenComplete((built, err) -> {
+                    if (err != null) {
+                        Constants.LOG.warn("[{}] Icon catalog build failed: {}", Constants.MOD_NAME, err.toString());
+                        // Keep the failed future as 'building': get() only starts another build once
+                        // the language or tags differ from the ones that failed.
+                    } else if (buildingLanguage == lang && buildingTags == tags) {
+                        snapshot = built;
+                    }
+                });
+            }
+            // Keep serving the old names until the new ones are ready
+            return s;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] IconCatalog.get failed: {}", Constants.MOD_NAME, t.toString());
+            return snapshot;
+        }
+    }
+
+    private static Snapshot build(Language lang, int tagsVer) {
+        long t0 = System.nanoTime();
+        List<Item> items = new ArrayList<>(BuiltInRegistries.ITEM.size());
+        List<String> ids = new ArrayList<>(BuiltInRegistries.ITEM.size());
+        for (Item item : BuiltInRegistries.ITEM) {
+            ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
+            items.add(item);
+            ids.add(id.toString());
+        }
+
+        Integer[] order = new Integer[ids.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(ids.get(a), ids.get(b)));
+
+        int n = order.length;
+        String[] outIds = new String[n];
+        String[] names = new String[n];
+        List<List<String>> tags = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            int i = order[k];
+            outIds[k] = ids.get(i);
+            String name;
+            try {
+                name = lang.getOrDefault(items.get(i).getDescriptionId(), outIds[k]);
+            } catch (Throwable t) {
+                name = outIds[k];
+            }
+            names[k] = name;
+            List<String> itemTags = new ArrayList<>(4);
+            try {
+                items.get(i).builtInRegistryHolder().tags().forEach((TagKey<Item> t) -> itemTags.add(t.location().getPath()));
+            } catch (Throwable ignored) {}
+            tags.add(itemTags);
+        }
+        IconSearchIndex index = IconSearchIndex.build(outIds, names, tags);
+
+        Constants.LOG.debug("[{}] Icon catalog built: {} items, {} ms.",
+                Constants.MOD_NAME, n, (System.nanoTime() - t0) / 1_000_000L);
+        return new Snapshot(outIds, names, index, lang, tagsVer);
+    }
+}
@@ -6,14 +6,11 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
-import net.minecraft.resources.ResourceLocation;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.data.icon.IconSpec;
 import org.z2six.ezactions.gui.IconRenderer;
 import org.z2six.ezactions.gui.noblur.NoMenuBlurScreen;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 import java.util.function.Consumer;
 
@@ -27,12 +24,22 @@ import java.util.function.Consumer;
  * - Click-and-drag scrollbar knob (keeps wheel scrolling).
  * - Centralized geometry so render & input share the same math.
  * - Debug logs for drag start/end and layout diagnostics.
+ * - Icons come from the shared {@link IconCatalog}; until it is ready an "Indexing…" note shows.
+ * - Filter results are cached per query; typing more (a query containing the previous one) only
+ *   re-checks the previous matches. The grid visits just the rows on screen.
+ * - The filter is a ranked search over ids, display names and tags ({@link IconSearchIndex}).
  */
 public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
 
     private final Screen parent;
     private final Consumer<IconSpec> onPick;
-    private final List<String> allIcons = new ArrayList<>();
+    private IconCatalog.Snapshot catalog; // null until the shared catalog is built
+
+    // Filter cache: catalog indices matching matchQuery (null = everything, i.e. empty query)
+    private int[] matches = null;
+    private int matchCount = 0;
+    private String matchQuery = null;
+    private IconCatalog.Snapshot matchCatalog = null;
     private String filter = "";
     private double scrollY = 0;
     private EditBox filterBox;
@@ -61,6 +68,7 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
         try {
             filterBox = new EditBox(this.font, PADDING, PADDING,
                     Math.max(120, this.width - PADDING * 2 - 20), 18, Component.literal("Filter"));
+            filterBox.setHint(Component.literal("Search by name, id or tag"));
             filterBox.setValue(filter);
             filterBox.setResponder(s -> {
                 filter = s;
@@ -71,13 +79,8 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
             });
             addRenderableWidget(filterBox);
 
-            // populate minecraft:item ids
-            var reg = net.minecraft.core.registries.BuiltInRegistries.ITEM;
-            for (var e : reg.entrySet()) {
-                ResourceLocation id = e.getKey().location();
-                allIcons.add(id.getNamespace() + ":" + id.getPath());
-            }
-            allIcons.sort(String::compareToIgnoreCase);
+            // item ids come presorted from the shared catalog (may still be building)
+            pollCatalog();
 
             // ensure scroll is valid for current content/view
             scrollY = clamp(scrollY, 0, Math.max(0, contentHeight() - viewHeight()));
@@ -115,29 +118,17 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
             return true;
         }
 
-        // 2) Grid selection
-        int left = PADDING;
-        int top = PADDING + 24; // below filter
-        int cols = Math.max(1, (width - PADDING * 2) / (CELL + GAP));
-        int x0 = left;
-        int y0 = (int) (top - scrollY);
-
-        List<String> filtered = filtered();
-        for (int i = 0; i < filtered.size(); i++) {
-            int col = i % cols;
-            int row = i / cols;
-            int cx = x0 + col * (CELL + GAP);
-            int cy = y0 + row * (CELL + GAP);
-            if (mx >= cx && mx <= cx + CELL && my >= cy && my <= cy + CELL) {
-                String id = filtered.get(i);
-                try {
-                    onPick.accept(IconSpec.item(id));
-                } catch (Throwable t) {
-                    Constants.LOG.warn("[{}] Icon onPick failed: {}", Constants.MOD_NAME, t.toString());
-                }
-                onClose();
-                return true;
+        // 2) Grid selection: the cell under the cursor, computed directly
+        int i = indexAt(mx, my);
+        if (i >= 0) {
+            String id = catalog.ids()[i];
+            try {
+                onPick.accept(IconSpec.item(id));
+            } catch (Throwable t) {
+                Constants.LOG.warn("[{}] Icon onPick failed: {}", Constants.MOD_NAME, t.toString());
             }
+            onClose();
+            return true;
         }
         return super.mouseClicked(mx, my, button);
     }
@@ -168,20 +159,24 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
     @Override
     public void render(GuiGraphics g, int mouseX, int mouseY, float partialTick) {
         g.fill(0, 0, width, height, 0xA0000000);
+        pollCatalog();
+        if (catalog == null) {
+            g.drawCenteredString(this.font, "Indexing…", width / 2, PADDING + 40, 0xA0A0A0);
+        }
 
-        int left = PADDING;
         int top = PADDING + 24;
-        int cols = Math.max(1, (width - PADDING * 2) / (CELL + GAP));
-        int x0 = left;
-        int y0 = (int) (top - scrollY);
-
-        List<String> filtered = filtered();
-        for (int i = 0; i < filtered.size(); i++) {
-            int col = i % cols;
-            int row = i / cols;
-            int cx = x0 + col * (CELL + GAP);
-            int cy = y0 + row * (CELL + GAP);
-            IconRenderer.drawIcon(g, cx + CELL / 2, cy + CELL / 2, IconSpec.item(filtered.get(i)));
+        int cols = columns();
+        int count = matchCount();
+        if (count > 0) {
+            // Only the rows intersecting the view
+            int firstRow = Math.max(0, (int) (scrollY / (CELL + GAP)));
+            int lastRow = (int) ((scrollY + viewHeight()) / (CELL + GAP));
+            int end = Math.min(count, (lastRow + 1) * cols);
+            for (int k = firstRow * cols; k < end; k++) {
+                int cx = PADDING + (k % cols) * (CELL + GAP);
+                int cy = (int) (top - scrollY) + (k / cols) * (CELL + GAP);
+                IconRenderer.drawIcon(g, cx + CELL / 2, cy + CELL / 2, IconSpec.item(catalog.ids()[matchAt(k)]));
+            }
         }
 
         drawScrollbar(g);
@@ -195,10 +190,65 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
 
     // helpers
 
-    private List<String> filtered() {
-        if (filter == null || filter.isBlank()) return allIcons;
-        String f = filter.toLowerCase(Locale.ROOT);
-        return allIcons.stream().filter(s -> s.contains(f)).toList();
+    /** Pick up the shared catalog once it is published (or rebuilt for a new language). */
+    private void pollCatalog() {
+        IconCatalog.Snapshot s = IconCatalog.get();
+        if (s == null || s == catalog) return;
+        catalog = s;
+        scrollY = clamp(scrollY, 0, Math.max(0, contentHeight() - viewHeight()));
+    }
+
+    private int columns() {
+        return Math.max(1, (width - PADDING * 2) / (CELL + GAP));
+    }
+
+    /** Number of icons matching the current filter. */
+    private int matchCount() {
+        ensureMatches();
+        return matchCount;
+    }
+
+    /** Catalog index of the k-th match. */
+    private int matchAt(int k) {
+        return (matches == null) ? k : matches[k];
+    }
+
+    /** Catalog index of the icon cell under (mx, my), or -1. */
+    private int indexAt(double mx, double my) {
+        int top = PADDING + 24; // below filter
+        if (my < top || mx < PADDING) return -1;
+        int cols = columns();
+        int col = (int) ((mx - PADDING) / (CELL + GAP));
+        double y = my - top + scrollY;
+        int row = (int) (y / (CELL + GAP));
+        if (col >= cols) return -1;
+        // inside the cell, not the gap
+        if (mx - PADDING - col * (CELL + GAP) > CELL || y - row * (CELL + GAP) > CELL) return -1;
+        int k = row * cols + col;
+        return (k < matchCount()) ? matchAt(k) : -1;
+    }
+
+    /**
+     * Bring the match cache up to date with {@link #filter} using the catalog's ranked search index.
+     * A query that contains the previous one can only match a subset, so only the previous matches
+     * are re-scored instead of consulting the index.
+     */
+    private void ensureMatches() {
+        IconCatalog.Snapshot c = catalog;
+        String q = (filter == null) ? "" : filter.trim().toLowerCase(Locale.ROOT);
+        if (c == matchCatalog && q.equals(matchQuery)) return;
+
+        if (c == null) {
+            matches = null;
+            matchCount = 0;
+        } else {
+            boolean narrowing = c == matchCatalog && matches != null && matchQuery != null && q.contains(matchQuery);
+            int[] found = c.index().search(q, narrowing ? matches : null, narrowing ? matchCount : 0);
+            matches = found;
+            matchCount = (found == null) ? c.size() : found.length;
+        }
+        matchCatalog = c;
+        matchQuery = q;
     }
 
     private int viewHeight() {
@@ -206,8 +256,8 @@ public final class IconPickerScreen extends Screen implements NoMenuBlurScreen {
     }
 
     private double contentHeight() {
-        int cols = Math.max(1, (width - PADDING * 2) / (CELL + GAP));
-        int rows = (int) Math.ceil(filtered().size() / (double) cols);
+        int cols = columns();
+        int rows = (int) Math.ceil(matchCount() / (double) cols);
         return rows * (CELL + GAP);
     }
 
@@ -0,0 +1,173 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/editor/IconSearchIndex.java
+package org.z2six.ezactions.gui.editor;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Trigram index over the icon catalog: namespace, path, localized name and item tags.
+ *
+ * Every item gets one normalized search text ("minecraft oak planks oak planks | planks") in which
+ * ':', '_', '/', '.' and '-' become spaces; tags come after the '|'. A query is split into terms
+ * and every term must occur in the text. Candidates come from the shortest trigram posting list of
+ * any term (or from a caller-provided subset when the query only got narrower) and are verified
+ * with a substring check, then ranked:
+ *   exact path / exact name  >  term at the start of the path or name  >  term at a word start
+ *   >  term inside a word  >  term only in tags; shorter ids first, then catalog order.
+ *
+ * Immutable after {@link #build}; safe to query from the client thread while another index builds.
+ */
+final class IconSearchIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final String[] text;   // normalized search text per item
+    private final int[] tagStart;  // offset of the tag section in text
+    private final String[] path;   // normalized path ("oak planks")
+    private final String[] name;   // normalized display name
+    private final Long2ObjectOpenHashMap<int[]> grams;
+
+    private IconSearchIndex(String[] text, int[] tagStart, String[] path, String[] name,
+                            Long2ObjectOpenHashMap<int[]> grams) {
+        this.text = text;
+        this.tagStart = tagStart;
+        this.path = path;
+        this.name = name;
+        this.grams = grams;
+    }
+
+    /** Build over parallel arrays of ids, display names and tag paths (background thread). */
+    static IconSearchIndex build(String[] ids, String[] names, List<List<String>> tags) {
+        final int n = ids.length;
+        String[] text = new String[n];
+        int[] tagStart = new int[n];
+        String[] path = new String[n];
+        String[] name = new String[n];
+        Long2ObjectOpenHashMap<IntArrayList> lists = new Long2ObjectOpenHashMap<>();
+        LongOpenHashSet seen = new LongOpenHashSet();
+
+        StringBuilder sb = new StringBuilder(96);
+        for (int i = 0; i < n; i++) {
+            String id = ids[i];
+            int colon = id.indexOf(':');
+            path[i] = normalize(colon >= 0 ? id.substring(colon + 1) : id);
+            name[i] = normalize(names[i]);
+
+            sb.setLength(0);
+            sb.append(normalize(colon >= 0 ? id.substring(0, colon) : "")).append(' ')
+              .append(path[i]).append(' ').append(name[i]);
+            tagStart[i] = sb.length();
+            sb.append(" |");
+            for (String t : tags.get(i)) sb.append(' ').append(normalize(t));
+            text[i] = sb.toString();
+
+            seen.clear();
+            String s = text[i];
+            for (int k = 0; k + 3 <= s.length(); k++) {
+                long g = gram(s, k);
+                if (seen.add(g)) lists.computeIfAbsent(g, x -> new IntArrayList()).add(i);
+            }
+        }
+
+        Long2ObjectOpenHashMap<int[]> grams = new Long2ObjectOpenHashMap<>(lists.size());
+        for (Long2ObjectOpenHashMap.Entry<IntArrayList> e : lists.long2ObjectEntrySet()) {
+            grams.put(e.getLongKey(), e.getValue().toIntArray()); // ascending: items were added in order
+        }
+        return new IconSearchIndex(text, tagStart, path, name, grams);
+    }
+
+    /**
+     * Ranked catalog indices matching {@code query}; null means "everything" (blank query).
+     * When {@code within} is non-null only its first {@code withinCount} entries are considered.
+     */
+    int[] search(String query, int[] within, int withinCount) {
+        String q = normalize(query);
+        if (q.isEmpty()) return null;
+        String[] terms = q.split(" ");
+
+        // Candidate source: the caller's subset, or the rarest trigram of any term
+        int[] cand = within;
+        int candCount = withinCount;
+        if (cand == null) {
+            int[] best = null;
+            for (String t : terms) {
+                for (int k = 0; k + 3 <= t.length(); k++) {
+                    int[] post = grams.get(gram(t, k));
+                    if (post == null) return NONE; // trigram never occurs
+                    if (best == null || post.length < best.length) best = post;
+                }
+            }
+            if (best == null) { // only 1-2 char terms: check everything
+                cand = null;
+                candCount = text.length;
+            } else {
+                cand = best;
+                candCount = best.length;
+            }
+        }
+
+        // Verify + score; sort key packs (inverted score, index) into one long
+        long[] keys = new long[candCount];
+        int hits = 0;
+        for (int c = 0; c < candCount; c++) {
+            int i = (cand == null) ? c : cand[c];
+            int score = score(i, q, terms);
+            if (score < 0) continue;
+            keys[hits++] = ((long) (Integer.MAX_VALUE - score) << 32) | i;
+        }
+        Arrays.sort(keys, 0, hits);
+
+        int[] out = new int[hits];
+        for (int k = 0; k < hits; k++) out[k] = (int) keys[k];
+        return out;
+    }
+
+    /** Relevance of item {@code i}; -1 when some term does not occur. */
+    private int score(int i, String q, String[] terms) {
+        String s = text[i];
+        int score = 0;
+        for (String t : terms) {
+            int at = s.indexOf(t);
+            if (at < 0) return -1;
+            if (path[i].startsWith(t) || name[i].startsWith(t)) score += 100;
+            else if (at > tagStart[i]) score += (s.indexOf(' ' + t, tagStart[i]) >= 0) ? 25 : 10;
+            else if (at == 0 || s.charAt(at - 1) == ' ' || s.lastIndexOf(' ' + t, tagStart[i]) >= 0) score += 60;
+            else score += 30;
+        }
+        if (path[i].equals(q)) score += 1000;
+        if (name[i].equals(q)) score += 900;
+        // Tie-break: shorter paths first (the common "base" item before its variants)
+        return score * 64 + Math.max(0, 63 - path[i].length());
+    }
+
+    /** Lowercase; separators to single spaces; trimmed. */
+    static String normalize(String s) {
+        if (s == null || s.isEmpty()) return "";
+        String lower = s.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        boolean space = true; // drop leading separators
+        for (int k = 0; k < lower.length(); k++) {
+            char c = lower.charAt(k);
+            boolean sep = c == ' ' || c == ':' || c == '_' || c == '/' || c == '.' || c == '-' || c == '\t';
+            if (sep) {
+                if (!space) sb.append(' ');
+                space = true;
+            } else {
+                sb.append(c);
+                space = false;
+            }
+        }
+        int len = sb.length();
+        if (len > 0 && sb.charAt(len - 1) == ' ') sb.setLength(len - 1);
+        return sb.toString();
+    }
+
+    private static long gram(String s, int k) {
+        return ((long) s.charAt(k) << 32) | ((long) s.charAt(k + 1) << 16) | s.charAt(k + 2);
+    }
+}
@@ -5,11 +5,13 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.CycleButton;
 import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.data.click.ClickActionKey;
 import org.z2six.ezactions.data.icon.IconSpec;
+import org.z2six.ezactions.data.menu.KeyChord;
 import org.z2six.ezactions.data.menu.MenuItem;
 import org.z2six.ezactions.data.menu.RadialMenu;
 import org.z2six.ezactions.gui.IconRenderer;
@@ -63,6 +65,10 @@ public final class KeyActionEditScreen extends Screen {
     private boolean draftToggle = false;
     private InputInjector.DeliveryMode draftMode = InputInjector.DeliveryMode.AUTO;
     private IconSpec draftIcon = IconSpec.item("minecraft:stone");
+    private ClickActionKey.HoldMode draftHold = ClickActionKey.HoldMode.TAP;
+    private int draftHoldTicks = 1;
+    private int draftRepeatCount = 1;
+    private KeyChord draftHotkey = null;
 
     // Widgets
     private EditBox titleBox;
@@ -70,6 +76,10 @@ public final class KeyActionEditScreen extends Screen {
     private EditBox mappingBox;
     private CycleButton<InputInjector.DeliveryMode> modeCycle;
     private CycleButton<Boolean> toggleCycle;
+    private CycleButton<ClickActionKey.HoldMode> holdCycle;
+    private EditBox holdTicksBox;
+    private EditBox repeatCountBox;
+    private HotkeyButton hotkeyButton;
 
     public KeyActionEditScreen(Screen parent, MenuItem editing) { this(parent, editing, null); }
 
@@ -85,6 +95,10 @@ public final class KeyActionEditScreen extends Screen {
             this.draftMapping = safe(ck.mappingName());
             this.draftToggle  = ck.toggle();
             this.draftMode    = ck.mode();
+            this.draftHold    = ck.holdMode();
+            this.draftHoldTicks = ck.holdTicks();
+            this.draftRepeatCount = ck.repeatCount();
+            this.draftHotkey = editing.hotkey();
             IconSpec ic = editing.icon();
             if (ic != null) this.draftIcon = ic;
         }
@@ -92,6 +106,24 @@ public final class KeyActionEditScreen extends Screen {
 
     private static String safe(String s) { return s == null ? "" : s; }
 
+    private static int parsePositive(String s, int fallback) {
+        try {
+            int v = Integer.parseInt(safe(s).trim());
+            return v >= 1 ? v : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static String holdLabel(ClickActionKey.HoldMode hm) {
+        return switch (hm) {
+            case TAP -> "Tap";
+            case HOLD_TICKS -> "Hold N ticks";
+            case HOLD_WHILE_HOTKEY -> "Hold while hotkey";
+            case REPEAT -> "Repeat";
+        };
+    }
+
     @Override
     protected void init() {
         int cx = this.width / 2;
@@ -143,7 +175,7 @@ public final class KeyActionEditScreen extends Screen {
         }).bounds(cx - (FIELD_W / 2), y, FIELD_W, FIELD_H).build());
         y += FIELD_H + BETWEEN_BUTTON_ROWS;
 
-        // Row 2: icon picker button
+        // Row 2: icon picker + direct hotkey
         addRenderableWidget(Button.builder(Component.literal("Choose Icon"), b -> {
             try {
                 this.minecraft.setScreen(new IconPickerScreen(this, ic -> {
@@ -153,7 +185,9 @@ public final class KeyActionEditScreen extends Screen {
             } catch (Throwable t) {
                 Constants.LOG.warn("[{}] KeyActionEdit: opening IconPickerScreen failed: {}", Constants.MOD_NAME, t.toString());
             }
-        }).bounds(cx - (FIELD_W / 2), y, FIELD_W, FIELD_H).build());
+        }).bounds(cx - (FIELD_W / 2), y, (FIELD_W / 2) - 4, FIELD_H).build());
+        hotkeyButton = addRenderableWidget(new HotkeyButton(cx + 4, y, (FIELD_W / 2) - 4, FIELD_H,
+                draftHotkey, editing == null ? null : editing.id(), c -> draftHotkey = c));
         y += FIELD_H + BETWEEN_BUTTON_ROWS;
 
         // Row 3: delivery + toggle on one row (same row height as field)
@@ -169,7 +203,35 @@ public final class KeyActionEditScreen extends Screen {
         );
         y += FIELD_H + BETWEEN_BUTTON_ROWS;
 
-        // Row 4: Save / Cancel / Back
+        // Row 4: hold/repeat mode + ticks + count (ticks = hold duration or repeat interval)
+        int quarterW = (FIELD_W / 4) - 4;
+        holdCycle = addRenderableWidget(
+                CycleButton.builder((ClickActionKey.HoldMode hm) -> Component.literal(holdLabel(hm)))
+                        .withValues(ClickActionKey.HoldMode.values())
+                        .withInitialValue(draftHold)
+                        .create(cx - (FIELD_W / 2), y, (FIELD_W / 2) - 4, FIELD_H, Component.literal("Press"),
+                                (btn, v) -> draftHold = v)
+        );
+        holdCycle.setTooltip(Tooltip.create(Component.literal(
+                "Hold while hotkey: held while the key that ran the action stays down (this item's hotkey, "
+                        + "or the radial key when clicking the slice). Run by releasing the radial key, it holds 'ticks' instead.")));
+        holdTicksBox = new EditBox(this.font, cx + 4, y, quarterW, FIELD_H, Component.literal("Ticks"));
+        holdTicksBox.setFilter(s -> s.matches("\\d{0,4}"));
+        holdTicksBox.setValue(Integer.toString(draftHoldTicks));
+        holdTicksBox.setHint(Component.literal("ticks"));
+        holdTicksBox.setTooltip(Tooltip.create(Component.literal("Hold duration / repeat interval (ticks)")));
+        holdTicksBox.setResponder(s -> draftHoldTicks = parsePositive(s, draftHoldTicks));
+        addRenderableWidget(holdTicksBox);
+        repeatCountBox = new EditBox(this.font, cx + 4 + quarterW + 8, y, quarterW, FIELD_H, Component.literal("Count"));
+        repeatCountBox.setFilter(s -> s.matches("\\d{0,4}"));
+        repeatCountBox.setValue(Integer.toString(draftRepeatCount));
+        repeatCountBox.setHint(Component.literal("count"));
+        repeatCountBox.setTooltip(Tooltip.create(Component.literal("Number of presses (Repeat mode)")));
+        repeatCountBox.setResponder(s -> draftRepeatCount = parsePositive(s, draftRepeatCount));
+        addRenderableWidget(repeatCountBox);
+        y += FIELD_H + BETWEEN_BUTTON_ROWS;
+
+        // Row 5: Save / Cancel / Back
         int totalW = (80 * 3) + (8 * 2);
         int leftX = cx - (totalW / 2);
         addRenderableWidget(Button.builder(Component.literal("Save"), b -> onSavePressed())
@@ -181,6 +243,12 @@ public final class KeyActionEditScreen extends Screen {
         // --- end button stack ---
     }
 
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (hotkeyButton != null && hotkeyButton.captureKey(keyCode, modifiers)) return true;
+        return super.keyPressed(keyCode, scanCode, modifiers);
+    }
+
     private void onSavePressed() {
         try {
             draftTitle   = safe(titleBox == null ? draftTitle : titleBox.getValue()).trim();
@@ -188,6 +256,7 @@ public final class KeyActionEditScreen extends Screen {
             draftMapping = safe(mappingBox == null ? draftMapping : mappingBox.getValue()).trim();
             draftMode = modeCycle == null ? draftMode : modeCycle.getValue();
             draftToggle = toggleCycle != null && Boolean.TRUE.equals(toggleCycle.getValue());
+            draftHold = holdCycle == null ? draftHold : holdCycle.getValue();
 
             if (draftTitle.isEmpty() || draftMapping.isEmpty()) {
                 Constants.LOG.warn("[{}] KeyActionEdit: Title or Mapping empty; ignoring save.", Constants.MOD_NAME);
@@ -200,8 +269,11 @@ public final class KeyActionEditScreen extends Screen {
                     draftTitle,
                     draftNote,
                     draftIcon,
-                    new ClickActionKey(draftMapping, draftToggle, draftMode),
-                    java.util.List.of()
+                    new ClickActionKey(draftMapping, draftToggle, draftMode, draftHold, draftHoldTicks, draftRepeatCount),
+                    java.util.List.of(),
+                    editing != null ? editing.condition() : null, // keep conditions authored in menu.json
+                    false,
+                    draftHotkey
             );
 
             if (onSave != null) {
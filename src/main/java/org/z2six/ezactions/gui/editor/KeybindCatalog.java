@@ -0,0 +1,184 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/editor/KeybindCatalog.java
+package org.z2six.ezactions.gui.editor;
+
+import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
+import net.minecraft.locale.Language;
+import org.z2six.ezactions.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cached, category-grouped list of all key mappings for KeybindPickerScreen.
+ *
+ * Rows (category headers followed by their mappings, both sorted by localized label) are built once
+ * per (Options.keyMappings array, Language instance) pair and shared by every picker. A prefix
+ * index over the words of each mapping's label, id and category answers searches with a binary
+ * search instead of a scan; every query word must prefix some word of the mapping.
+ *
+ * Client thread only. Snapshots are immutable; never throws.
+ */
+public final class KeybindCatalog {
+
+    private KeybindCatalog() {}
+
+    /** One row: a category header (mapping == null) or a mapping. */
+    public record Row(String label, KeyMapping mapping, int header) {
+        public boolean isHeader() { return mapping == null; }
+    }
+
+    /** Rows plus the word index. {@code header} of a mapping row is the index of its header row. */
+    public static final class Snapshot {
+        private final Row[] rows;
+        private final String[] words;   // sorted
+        private final int[] wordRow;    // row index per word
+        private final String[][] rowWords;
+
+        private Snapshot(Row[] rows, String[] words, int[] wordRow, String[][] rowWords) {
+            this.rows = rows;
+            this.words = words;
+            this.wordRow = wordRow;
+            this.rowWords = rowWords;
+        }
+
+        public int size() { return rows.length; }
+
+        public Row row(int i) { return rows[i]; }
+
+        /**
+         * Row indices to show for {@code query}: matching mappings in catalog order, each group led
+         * by its category header. Null for a blank query (show everything).
+         */
+        public int[] search(String query) {
+            String[] terms = split(query);
+            if (terms.length == 0) return null;
+
+            // Candidates: rows with a word starting with the first term (binary search on sorted words)
+            boolean[] hit = new boolean[rows.length];
+            int from = lowerBound(terms[0]);
+            for (int w = from; w < words.length && words[w].startsWith(terms[0]); w++) hit[wordRow[w]] = true;
+
+            int[] out = new int[rows.length];
+            int n = 0;
+            int lastHeader = -1;
+            for (int r = 0; r < rows.length; r++) {
+                if (!hit[r] || !matchesAll(r, terms)) continue;
+                int h = rows[r].header();
+                if (h != lastHeader) {
+                    out[n++] = h;
+                    lastHeader = h;
+                }
+                out[n++] = r;
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        private boolean matchesAll(int r, String[] terms) {
+            outer:
+            for (int t = 1; t < terms.length; t++) {
+                for (String w : rowWords[r]) if (w.startsWith(terms[t])) continue outer;
+                return false;
+            }
+            return true;
+        }
+
+        private int lowerBound(String key) {
+            int lo = 0, hi = words.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (words[mid].compareTo(key) < 0) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    private static Snapshot snapshot = null;
+    private static KeyMapping[] builtFrom = null;
+    private static Language builtLanguage = null;
+
+    /** Shared snapshot, rebuilt when the mapping set or language changed. */
+    public static Snapshot get() {
+        try {
+            KeyMapping[] all = Minecraft.getInstance().options.keyMappings;
+            Language lang = Language.getInstance();
+            if (snapshot != null && all == builtFrom && lang == builtLanguage) return snapshot;
+            snapshot = build(all, lang);
+            builtFrom = all;
+            builtLanguage = lang;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] KeybindCatalog build failed: {}", Constants.MOD_NAME, t.toString());
+            if (snapshot == null) snapshot = new Snapshot(new Row[0], new String[0], new int[0], new String[0][]);
+        }
+        return snapshot;
+    }
+
+    private static Snapshot build(KeyMapping[] all, Language lang) {
+        long t0 = System.nanoTime();
+        Map<String, List<KeyMapping>> byCat = new HashMap<>();
+        Map<KeyMapping, String> labels = new HashMap<>();
+        for (KeyMapping km : all) {
+            byCat.computeIfAbsent(km.getCategory(), k -> new ArrayList<>()).add(km);
+            labels.put(km, lang.getOrDefault(km.getName(), km.getName()));
+        }
+
+        List<String> cats = new ArrayList<>(byCat.keySet());
+        Map<String, String> catLabels = new HashMap<>();
+        for (String c : cats) catLabels.put(c, lang.getOrDefault(c, c));
+        cats.sort(Comparator.comparing(catLabels::get, String.CASE_INSENSITIVE_ORDER));
+
+        List<Row> rows = new ArrayList<>(all.length + cats.size());
+        List<String[]> rowWords = new ArrayList<>(all.length + cats.size());
+        List<String> words = new ArrayList<>();
+        List<Integer> wordRows = new ArrayList<>();
+        for (String cat : cats) {
+            int header = rows.size();
+            String catLabel = catLabels.get(cat);
+            rows.add(new Row(catLabel, null, header));
+            rowWords.add(new String[0]);
+
+            List<KeyMapping> list = byCat.get(cat);
+            list.sort(Comparator.comparing(labels::get, String.CASE_INSENSITIVE_ORDER));
+            for (KeyMapping km : list) {
+                int r = rows.size();
+                String label = labels.get(km);
+                rows.add(new Row(label, km, header));
+                String[] ws = split(label + " " + km.getName() + " " + catLabel);
+                ws = Arrays.stream(ws).distinct().toArray(String[]::new);
+                rowWords.add(ws);
+                for (String w : ws) {
+                    words.add(w);
+                    wordRows.add(r);
+                }
+            }
+        }
+
+        // Sort words (with their rows) for prefix binary search
+        Integer[] order = new Integer[words.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(words::get));
+        String[] sortedWords = new String[order.length];
+        int[] sortedRows = new int[order.length];
+        for (int k = 0; k < order.length; k++) {
+            sortedWords[k] = words.get(order[k]);
+            sortedRows[k] = wordRows.get(order[k]);
+        }
+
+        Constants.LOG.debug("[{}] KeybindCatalog: {} rows, {} words, {} ms.", Constants.MOD_NAME,
+                rows.size(), sortedWords.length, (System.nanoTime() - t0) / 1_000_000L);
+        return new Snapshot(rows.toArray(new Row[0]), sortedWords, sortedRows, rowWords.toArray(new String[0][]));
+    }
+
+    /** Lowercase words; '.', '_', '-' and whitespace separate words. */
+    private static String[] split(String s) {
+        if (s == null) return new String[0];
+        String t = s.toLowerCase(Locale.ROOT).trim();
+        if (t.isEmpty()) return new String[0];
+        return Arrays.stream(t.split("[\\s._\\-]+")).filter(w -> !w.isEmpty()).toArray(String[]::new);
+    }
+}
@@ -1,16 +1,14 @@
 // MainFile: src/main/java/org/z2six/ezactions/gui/editor/KeybindPickerScreen.java
 package org.z2six.ezactions.gui.editor;
 
-import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.Options;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.gui.noblur.NoMenuBlurScreen;
 
-import java.util.*;
 import java.util.function.Consumer;
 
 /**
@@ -23,6 +21,8 @@ import java.util.function.Consumer;
  * - Click-and-drag scrollbar knob.
  * - Robust math for knob <-> scrollY mapping.
  * - Debug logs for layout/drag diagnostics.
+ * - Rows come from the shared {@link KeybindCatalog}; a search box filters through its word index.
+ * - Only the rows on screen are drawn or hit-tested.
  */
 public final class KeybindPickerScreen extends Screen implements NoMenuBlurScreen {
 
@@ -32,23 +32,18 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
     private static final int PADDING = 12;
     private static final int ROW_H = 20;
     private static final int BUTTON_W = 60;
+    private static final Component USE = Component.literal("Use");
 
     private double scrollY = 0;
-    private final List<Row> rows = new ArrayList<>();
+    private KeybindCatalog.Snapshot catalog;
+    private int[] visible = null; // catalog rows matching the search; null = all rows
+    private String query = "";
+    private EditBox searchBox;
 
     // Drag state for scrollbar knob
     private boolean draggingScrollbar = false;
     private int dragGrabOffsetY = 0; // distance from knob top to cursor when drag starts
 
-    private static final class Row {
-        final boolean header;
-        final Component label;   // localized text for display
-        final KeyMapping mapping; // null for header
-        Row(boolean header, Component label, KeyMapping mapping) {
-            this.header = header; this.label = label; this.mapping = mapping;
-        }
-    }
-
     public KeybindPickerScreen(Screen parent, Consumer<String> onPick) {
         super(Component.literal("Choose Keybinding"));
         this.parent = parent;
@@ -62,37 +57,47 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
     @Override
     protected void init() {
         try {
-            Options opts = Objects.requireNonNull(Minecraft.getInstance().options);
-            KeyMapping[] all = Objects.requireNonNull(opts.keyMappings);
-
-            Map<String, List<KeyMapping>> byCat = new HashMap<>();
-            for (KeyMapping km : all) {
-                byCat.computeIfAbsent(km.getCategory(), k -> new ArrayList<>()).add(km);
-            }
-
-            List<String> cats = new ArrayList<>(byCat.keySet());
-            cats.sort(Comparator.comparing(k -> Component.translatable(k).getString(), String.CASE_INSENSITIVE_ORDER));
-
-            rows.clear();
-            for (String cat : cats) {
-                rows.add(new Row(true, Component.translatable(cat), null));
-                List<KeyMapping> list = byCat.get(cat);
-                list.sort(Comparator.comparing(km -> Component.translatable(km.getName()).getString(), String.CASE_INSENSITIVE_ORDER));
-                for (KeyMapping km : list) {
-                    rows.add(new Row(false, Component.translatable(km.getName()), km));
-                }
-            }
-            Constants.LOG.info("[{}] KeybindPicker: built {} rows ({} categories).", Constants.MOD_NAME, rows.size(), cats.size());
-            // Reset scroll if content shrank
-            scrollY = clamp(scrollY, 0, Math.max(0, rows.size() * ROW_H - viewHeight()));
+            catalog = KeybindCatalog.get();
+
+            searchBox = new EditBox(this.font, PADDING, PADDING,
+                    Math.max(120, this.width - PADDING * 2 - 20), 18, Component.literal("Search"));
+            searchBox.setHint(Component.literal("Search keybindings"));
+            searchBox.setValue(query);
+            searchBox.setResponder(s -> {
+                query = s;
+                applySearch();
+            });
+            addRenderableWidget(searchBox);
+            applySearch();
+
+            Constants.LOG.debug("[{}] KeybindPicker: {} rows available.", Constants.MOD_NAME, catalog.size());
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] KeybindPicker init failed: {}", Constants.MOD_NAME, t.toString());
         }
     }
 
+    private void applySearch() {
+        visible = (catalog == null) ? new int[0] : catalog.search(query);
+        // Reset scroll if content shrank
+        scrollY = clamp(scrollY, 0, Math.max(0, rowCount() * ROW_H - viewHeight()));
+    }
+
+    private int rowCount() {
+        if (visible != null) return visible.length;
+        return (catalog == null) ? 0 : catalog.size();
+    }
+
+    private KeybindCatalog.Row rowAt(int i) {
+        return catalog.row(visible == null ? i : visible[i]);
+    }
+
+    private int listTop() {
+        return PADDING + 24; // below the search box
+    }
+
     // --- Scroll wheel (two signatures for cross-version safety) -------------
     public boolean mouseScrolled(double mx, double my, double delta) {
-        double content = rows.size() * ROW_H;
+        double content = rowCount() * ROW_H;
         double view = viewHeight();
         if (content > view) {
             scrollY = clamp(scrollY - delta * 32.0, 0, content - view);
@@ -102,7 +107,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
 
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double deltaX, double deltaY) {
-        double content = rows.size() * ROW_H;
+        double content = rowCount() * ROW_H;
         double view = viewHeight();
         if (content > view) {
             scrollY = clamp(scrollY - deltaY * 32.0, 0, Math.max(0, content - view));
@@ -121,29 +126,27 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
             return true;
         }
 
-        // 2) Fall back to list button clicks
+        // 2) The row under the cursor, if its "Use" button was hit
         int x = PADDING;
-        int y = (int) (PADDING - scrollY);
         int usableW = width - PADDING * 2;
-
-        for (int i = 0; i < rows.size(); i++) {
-            Row r = rows.get(i);
-            int ry = y + i * ROW_H;
-            if (r.header) continue;
-
-            int btnX = x + Math.min(usableW, 360);
-            int btnY = ry + 3;
-
-            if (mx >= btnX && mx <= btnX + BUTTON_W && my >= btnY && my <= btnY + (ROW_H - 6)) {
-                try {
-                    String mappingKey = r.mapping.getName(); // e.g. "key.inventory"
-                    Constants.LOG.info("[{}] KeybindPicker: picked {}", Constants.MOD_NAME, mappingKey);
-                    onPick.accept(mappingKey);
-                } catch (Throwable t) {
-                    Constants.LOG.warn("[{}] KeybindPicker onPick failed: {}", Constants.MOD_NAME, t.toString());
+        if (my >= listTop() && my < listTop() + viewHeight()) {
+            int i = (int) ((my - listTop() + scrollY) / ROW_H);
+            if (i >= 0 && i < rowCount()) {
+                KeybindCatalog.Row r = rowAt(i);
+                int ry = (int) (listTop() - scrollY) + i * ROW_H;
+                int btnX = x + Math.min(usableW, 360);
+                int btnY = ry + 3;
+                if (!r.isHeader() && mx >= btnX && mx <= btnX + BUTTON_W && my >= btnY && my <= btnY + (ROW_H - 6)) {
+                    try {
+                        String mappingKey = r.mapping().getName(); // e.g. "key.inventory"
+                        Constants.LOG.info("[{}] KeybindPicker: picked {}", Constants.MOD_NAME, mappingKey);
+                        onPick.accept(mappingKey);
+                    } catch (Throwable t) {
+                        Constants.LOG.warn("[{}] KeybindPicker onPick failed: {}", Constants.MOD_NAME, t.toString());
+                    }
+                    onClose();
+                    return true;
                 }
-                onClose();
-                return true;
             }
         }
         return super.mouseClicked(mx, my, button);
@@ -179,18 +182,22 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
         g.fill(0, 0, width, height, 0xA0000000);
 
         int x = PADDING;
-        int y = (int) (PADDING - scrollY);
+        int y = (int) (listTop() - scrollY);
         int usableW = width - PADDING * 2;
 
-        for (int i = 0; i < rows.size(); i++) {
-            Row r = rows.get(i);
+        // Only the rows intersecting the list area
+        int first = Math.max(0, (int) (scrollY / ROW_H));
+        int last = Math.min(rowCount() - 1, (int) ((scrollY + viewHeight()) / ROW_H));
+        g.enableScissor(0, listTop(), width, listTop() + viewHeight());
+        for (int i = first; i <= last; i++) {
+            KeybindCatalog.Row r = rowAt(i);
             int ry = y + i * ROW_H;
 
-            if (r.header) {
-                g.drawString(this.font, r.label, x, ry + 4, 0xFFFFAA);
+            if (r.isHeader()) {
+                g.drawString(this.font, r.label(), x, ry + 4, 0xFFFFAA);
                 g.fill(x, ry + ROW_H - 2, x + usableW, ry + ROW_H - 1, 0x40FFFFFF);
             } else {
-                g.drawString(this.font, r.label, x, ry + 5, 0xFFFFFF);
+                g.drawString(this.font, r.label(), x, ry + 5, 0xFFFFFF);
 
                 int btnX = x + Math.min(usableW, 360);
                 int btnY = ry + 3;
@@ -198,11 +205,14 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
                 int btnH = ROW_H - 6;
 
                 g.fill(btnX, btnY, btnX + btnW, btnY + btnH, 0x40000000);
-                Component b = Component.literal("Use");
-                int tw = this.font.width(b);
-                g.drawString(this.font, b, btnX + (btnW - tw) / 2, btnY + 5, 0xFFFFFF);
+                int tw = this.font.width(USE);
+                g.drawString(this.font, USE, btnX + (btnW - tw) / 2, btnY + 5, 0xFFFFFF);
             }
         }
+        g.disableScissor();
+        if (rowCount() == 0) {
+            g.drawCenteredString(this.font, "No matching keybindings", width / 2, listTop() + 8, 0xA0A0A0);
+        }
 
         drawScrollbar(g);
         super.render(g, mouseX, mouseY, partialTick);
@@ -211,7 +221,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
     // --- Scrollbar math / drawing -------------------------------------------
 
     private int viewHeight() {
-        return height - PADDING * 2;
+        return height - listTop() - PADDING;
     }
 
     private static double clamp(double v, double lo, double hi) {
@@ -219,7 +229,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
     }
 
     private void drawScrollbar(GuiGraphics g) {
-        double content = rows.size() * ROW_H;
+        double content = rowCount() * ROW_H;
         int view = viewHeight();
         if (content <= view) return;
 
@@ -240,7 +250,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
         ScrollbarMetrics m = new ScrollbarMetrics();
         m.barW = 6;
         m.barX = width - PADDING - m.barW;
-        m.barY = PADDING;
+        m.barY = listTop();
         m.barH = view;
 
         double ratio = view / content;
@@ -254,7 +264,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
 
     /** If clicked within knob, start dragging; returns true if drag began. */
     private boolean beginScrollbarDragIfHit(double mx, double my) {
-        double content = rows.size() * ROW_H;
+        double content = rowCount() * ROW_H;
         int view = viewHeight();
         if (content <= view) return false;
 
@@ -273,7 +283,7 @@ public final class KeybindPickerScreen extends Screen implements NoMenuBlurScree
 
     /** While dragging, convert mouseY back to scrollY using inverse mapping. */
     private void applyDragToScroll(double mouseY) {
-        double content = rows.size() * ROW_H;
+        double content = rowCount() * ROW_H;
         int view = viewHeight();
         if (content <= view) return;
 
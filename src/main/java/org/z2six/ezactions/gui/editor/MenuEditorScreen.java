@@ -5,8 +5,10 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
+import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
+import org.lwjgl.glfw.GLFW;
 import org.z2six.ezactions.Constants;
 import org.z2six.ezactions.data.click.ClickActionType;
 import org.z2six.ezactions.data.click.IClickAction;
@@ -16,13 +18,17 @@ import org.z2six.ezactions.data.menu.MenuItem;
 import org.z2six.ezactions.data.menu.RadialMenu;
 import org.z2six.ezactions.gui.IconRenderer;
 import org.z2six.ezactions.gui.editor.menu.MenuNavUtil;
+import org.z2six.ezactions.gui.editor.menu.MenuSearchIndex;
 import org.z2six.ezactions.gui.editor.menu.Rows;
 import org.z2six.ezactions.gui.editor.menu.ScrollbarMath;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * // MainFile: src/main/java/org/z2six/ezactions/gui/editor/MenuEditorScreen.java
@@ -35,8 +41,21 @@ import java.util.Objects;
  * - Drop over a category: highlight it and drop INTO that category.
  * - Drop over "Back to root"/"Back to XYZ": move OUT to that level WITHOUT changing the user's current view.
  * - Scrollbar & mouse wheel supported.
+ * - Row <-> content index lookups are O(1) through parallel arrays kept in step with the row list;
+ *   remove, reorder and drag-out patch the rows in place instead of rebuilding the page.
  * - Defensive logging; fail-soft behavior.
  *
+ * Multi-select:
+ * - Ctrl+click toggles an item, Shift+click marks a range from the last clicked row (Ctrl+Shift adds it).
+ * - Dragging a marked row moves the whole group (reorder, into a bundle, or back out).
+ * - Remove, Duplicate, Copy/Paste (and Delete, Ctrl+D/C/V/A) act on all marked items.
+ * - Each group operation is one RadialMenu batch: one persist, one row rebuild.
+ *
+ * Search:
+ * - The filter box searches the whole tree (titles, notes, command text, key mapping names) through
+ *   {@link MenuSearchIndex}. Results show their path; clicking one jumps to its page and selects it.
+ *   Reordering by drag is only available on normal (non-search) pages.
+ *
  * Notes feature:
  * - If an action has a non-empty note, we prefix a gold bookmark symbol before its title.
  * - Hovering the bookmark shows the note as a tooltip. (The rest of the row behaves unchanged.)
@@ -65,6 +84,9 @@ public final class MenuEditorScreen extends Screen {
     private static final String BOOKMARK_SYM = "§6🔖§r"; // gold "bookmark" + reset
     private static final int BOOKMARK_PAD_RIGHT = 4;     // padding between symbol and title
 
+    // Search results shown at once (the index itself covers the whole tree)
+    private static final int SEARCH_LIMIT = 500;
+
     // Construction
     private final Screen parent;
 
@@ -75,6 +97,9 @@ public final class MenuEditorScreen extends Screen {
     private Button btnAddCat;
     private Button btnEdit;
     private Button btnRemove;
+    private Button btnCopy;
+    private Button btnPaste;
+    private Button btnDuplicate;
 
     private Button btnImport;
     private Button btnExport;
@@ -88,6 +113,17 @@ public final class MenuEditorScreen extends Screen {
     private final List<Rows> rows = new ArrayList<>();
     private int hoveredRow = -1;
     private int selectedRow = -1;
+    private boolean searchMode = false; // rows are whole-tree search results
+
+    // Multi-selection on the current page (by identity); selectedRow stays the lead row
+    private final Set<MenuItem> marked = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int anchorRow = -1;
+    private boolean dragGroup = false;
+
+    // Row <-> content (index into current()) maps, kept in step with rows; -1 = not an item row
+    private int[] rowToContent = new int[16];
+    private int[] contentToRow = new int[16];
+    private int contentCount = 0;
 
     // Scroll & drag
     private double scrollY = 0.0;
@@ -123,11 +159,20 @@ public final class MenuEditorScreen extends Screen {
         try { return mi == null ? null : mi.note(); } catch (Throwable ignored) { return null; }
     }
 
+    private static long lastFreshId = 0L;
+
     public static String freshId(String prefix) {
-        long t = System.currentTimeMillis();
+        // Strictly increasing so a batch (duplicate/paste) never hands out the same id twice
+        long t = Math.max(System.currentTimeMillis(), lastFreshId + 1);
+        lastFreshId = t;
         return prefix + "_" + Long.toHexString(t);
     }
 
+    private static String copyId(MenuItem mi) {
+        if (mi.isCategory()) return freshId("cat");
+        return freshId(mi.action().getType() == ClickActionType.COMMAND ? "cmd" : "key");
+    }
+
     private boolean atRoot() { return !RadialMenu.canGoBack(); }
 
     private List<MenuItem> current() {
@@ -158,9 +203,17 @@ public final class MenuEditorScreen extends Screen {
         }
     }
 
+    private String query() {
+        return filterBox != null ? filterBox.getValue().trim() : "";
+    }
+
     private void rebuildRows() {
         rows.clear();
-        if (!atRoot()) {
+        List<MenuSearchIndex.Hit> hits = MenuSearchIndex.search(query(), SEARCH_LIMIT);
+        searchMode = hits != null;
+        if (hits != null) {
+            for (MenuSearchIndex.Hit h : hits) rows.add(new Rows.SearchHitRow(h));
+        } else if (!atRoot()) {
             // Breadcrumb display
             String path = "root";
             try {
@@ -177,18 +230,20 @@ public final class MenuEditorScreen extends Screen {
             }
         }
 
-        String q = filterBox != null ? filterBox.getValue().trim().toLowerCase(Locale.ROOT) : "";
-        for (MenuItem mi : current()) {
-            if (q.isEmpty()) {
-                rows.add(new Rows.ItemRow(mi));
-            } else {
-                String title = mi.title() == null ? "" : mi.title();
-                if (title.toLowerCase(Locale.ROOT).contains(q)) {
-                    rows.add(new Rows.ItemRow(mi));
-                }
-            }
+        if (hits == null) {
+            for (MenuItem mi : current()) rows.add(new Rows.ItemRow(mi));
         }
+        reindexRows();
+        if (!marked.isEmpty()) {
+            // Keep only marks still on this page (navigation and removals drop the rest)
+            Set<MenuItem> onPage = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Rows r : rows) if (r instanceof Rows.ItemRow ir) onPage.add(ir.item());
+            marked.retainAll(onPage);
+        }
+        afterRowsChanged();
+    }
 
+    private void afterRowsChanged() {
         if (selectedRow >= rows.size()) selectedRow = rows.size() - 1;
         if (selectedRow < -1) selectedRow = -1;
         clampScroll();
@@ -198,12 +253,98 @@ public final class MenuEditorScreen extends Screen {
         dropSpecial = DropSpecial.NONE;
     }
 
-    private int rowCount() { return rows.size(); }
-    private int contentCount() {
+    /** Recompute both index maps from the row list; O(rows). */
+    private void reindexRows() {
+        int n = rows.size();
+        ensureIndexCapacity(n);
         int c = 0;
-        for (Rows r : rows) if (r instanceof Rows.ItemRow) c++;
-        return c;
+        for (int i = 0; i < n; i++) {
+            if (rows.get(i) instanceof Rows.ItemRow) {
+                rowToContent[i] = c;
+                contentToRow[c++] = i;
+            } else {
+                rowToContent[i] = -1;
+            }
+        }
+        contentCount = c;
     }
+
+    private void ensureIndexCapacity(int n) {
+        if (rowToContent.length >= n) return;
+        int cap = Math.max(n, rowToContent.length * 2);
+        rowToContent = Arrays.copyOf(rowToContent, cap);
+        contentToRow = Arrays.copyOf(contentToRow, cap);
+    }
+
+    /** After a patch the page rows must still mirror current(); otherwise fall back to a rebuild. */
+    private void finishPatch() {
+        if (contentCount != current().size()) {
+            Constants.LOG.debug("[{}] Editor rows out of sync ({} rows vs {} items); rebuilding.",
+                    Constants.MOD_NAME, contentCount, current().size());
+            rebuildRows();
+            return;
+        }
+        afterRowsChanged();
+    }
+
+    /** The item at {@code row} was removed from current(): drop its row and shift both maps. */
+    private void removeRowPatched(int row) {
+        int c = rowToContentIndex(row);
+        if (searchMode || c < 0) {
+            rebuildRows();
+            return;
+        }
+        marked.remove(((Rows.ItemRow) rows.get(row)).item());
+        rows.remove(row);
+        int n = rows.size();
+        System.arraycopy(rowToContent, row + 1, rowToContent, row, n - row);
+        for (int i = row; i < n; i++) if (rowToContent[i] >= 0) rowToContent[i]--;
+        System.arraycopy(contentToRow, c + 1, contentToRow, c, contentCount - c - 1);
+        contentCount--;
+        for (int k = c; k < contentCount; k++) contentToRow[k]--;
+        finishPatch();
+    }
+
+    /** {@code mi} was inserted into current() before the item shown at {@code row} (or appended). */
+    private void insertRowPatched(int row, MenuItem mi) {
+        int n = rows.size();
+        int c = (row == n) ? contentCount : rowToContentIndex(row);
+        if (searchMode || row < 0 || row > n || c < 0) {
+            rebuildRows();
+            return;
+        }
+        ensureIndexCapacity(n + 1);
+        rows.add(row, new Rows.ItemRow(mi));
+        System.arraycopy(rowToContent, row, rowToContent, row + 1, n - row);
+        rowToContent[row] = c;
+        for (int i = row + 1; i <= n; i++) if (rowToContent[i] >= 0) rowToContent[i]++;
+        System.arraycopy(contentToRow, c, contentToRow, c + 1, contentCount - c);
+        contentToRow[c] = row;
+        contentCount++;
+        for (int k = c + 1; k < contentCount; k++) contentToRow[k]++;
+        finishPatch();
+    }
+
+    /**
+     * The item at {@code fromRow} was moved in current() to the slot before {@code toSlot}.
+     * Item rows are contiguous, so this is a rotation of the rows in between; both maps are unchanged.
+     */
+    private void moveRowPatched(int fromRow, int toSlot) {
+        int target = (toSlot > fromRow) ? toSlot - 1 : toSlot;
+        int lo = Math.min(fromRow, target);
+        int hi = Math.max(fromRow, target);
+        int cLo = rowToContentIndex(lo);
+        int cHi = rowToContentIndex(hi);
+        if (searchMode || cLo < 0 || cHi < 0 || cHi - cLo != hi - lo) {
+            rebuildRows();
+            return;
+        }
+        if (lo != hi) Collections.rotate(rows.subList(lo, hi + 1), target > fromRow ? -1 : 1);
+        finishPatch();
+    }
+
+    private int rowCount() { return rows.size(); }
+    private int contentCount() { return contentCount; }
     private int visibleRowCount() { return Math.max(0, listHeight / ROW_H); }
     private int firstVisibleRow() { return Math.max(0, (int)Math.floor(scrollY / ROW_H)); }
     private int lastVisibleRow()  { return Math.min(rowCount() - 1, firstVisibleRow() + visibleRowCount()); }
@@ -235,34 +376,204 @@ public final class MenuEditorScreen extends Screen {
         if (scrollY > maxScroll) scrollY = maxScroll;
     }
 
-    private int rowToContentIndex(int rowIdx) {
-        if (rowIdx < 0 || rowIdx >= rows.size()) return -1;
-        Rows r = rows.get(rowIdx);
-        if (!(r instanceof Rows.ItemRow)) return -1;
-        int count = 0;
-        for (int i = 0; i < rows.size(); i++) {
-            Rows rr = rows.get(i);
-            if (rr instanceof Rows.ItemRow ir) {
-                if (i == rowIdx) return count;
-                count++;
+    /**
+     * Navigate to the page holding a search result (or into it, for a bundle and {@code enter}),
+     * clear the search and select the item.
+     */
+    private void jumpTo(MenuSearchIndex.Hit hit, boolean enter) {
+        try {
+            MenuNavUtil.goToRoot();
+            for (MenuItem cat : hit.path()) RadialMenu.enterCategory(cat);
+            boolean entered = enter && hit.item().isCategory();
+            if (entered) RadialMenu.enterCategory(hit.item());
+
+            filterBox.setValue(""); // responder resets selection/scroll and rebuilds the page rows
+            if (!entered) {
+                for (int i = 0; i < rows.size(); i++) {
+                    if (rows.get(i) instanceof Rows.ItemRow ir && ir.item() == hit.item()) {
+                        selectedRow = i;
+                        break;
+                    }
+                }
+                ensureSelectedVisible();
             }
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Jump to search result failed: {}", Constants.MOD_NAME, t.toString());
         }
-        return -1;
     }
 
-    private int contentIndexToRow(int contentIdx) {
-        if (contentIdx < 0) return -1;
-        int count = 0;
+    private boolean isMarked(int row) {
+        return rows.get(row) instanceof Rows.ItemRow ir && marked.contains(ir.item());
+    }
+
+    /** Items the group commands act on, in page order: the marked ones, else the selected row's item. */
+    private List<MenuItem> selectionItems() {
+        List<MenuItem> out = new ArrayList<>();
+        if (!marked.isEmpty()) {
+            for (Rows r : rows) if (r instanceof Rows.ItemRow ir && marked.contains(ir.item())) out.add(ir.item());
+        } else if (selectedRow >= 0 && selectedRow < rows.size() && rows.get(selectedRow) instanceof Rows.ItemRow ir) {
+            out.add(ir.item());
+        }
+        return out;
+    }
+
+    private void markRange(int a, int b) {
+        for (int i = Math.min(a, b); i <= Math.max(a, b) && i < rows.size(); i++) {
+            if (rows.get(i) instanceof Rows.ItemRow ir) marked.add(ir.item());
+        }
+    }
+
+    /** Replace the marks with {@code items} (already on this page) and lead with the last one. */
+    private void markItems(List<MenuItem> items) {
+        marked.clear();
+        marked.addAll(items);
+        selectedRow = -1;
+        anchorRow = -1;
         for (int i = 0; i < rows.size(); i++) {
-            Rows r = rows.get(i);
-            if (r instanceof Rows.ItemRow) {
-                if (count == contentIdx) return i;
-                count++;
+            if (isMarked(i)) {
+                if (anchorRow < 0) anchorRow = i;
+                selectedRow = i;
             }
         }
+        ensureSelectedVisible();
+    }
+
+    private static int indexOfIdentity(List<MenuItem> list, MenuItem mi) {
+        for (int i = 0; i < list.size(); i++) if (list.get(i) == mi) return i;
         return -1;
     }
 
+    private static Set<MenuItem> identitySet(List<MenuItem> items) {
+        Set<MenuItem> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(items);
+        return set;
+    }
+
+    /** Apply {@code edit} to the model as one batch: a single persist, then a single row rebuild. */
+    private void runBatch(String what, Runnable edit) {
+        RadialMenu.beginBatch();
+        try {
+            edit.run();
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] {} failed: {}", Constants.MOD_NAME, what, t.toString());
+        } finally {
+            RadialMenu.persist(); // deferred to endBatch; saves whatever the edit got to
+            RadialMenu.endBatch();
+        }
+        rebuildRows();
+    }
+
+    private void removeItems(List<MenuItem> items) {
+        Set<MenuItem> gone = identitySet(items);
+        selectedRow = -1;
+        anchorRow = -1;
+        runBatch("Batch remove", () -> current().removeIf(gone::contains));
+        Constants.LOG.debug("[{}] Removed {} items.", Constants.MOD_NAME, items.size());
+    }
+
+    private void duplicateSelection() {
+        if (searchMode) return;
+        List<MenuItem> items = selectionItems();
+        if (items.isEmpty()) return;
+        List<MenuItem> copies = new ArrayList<>(items.size());
+        runBatch("Duplicate", () -> {
+            List<MenuItem> cur = current();
+            for (MenuItem mi : items) {
+                int at = indexOfIdentity(cur, mi);
+                if (at < 0) continue;
+                MenuItem copy = mi.copyWithNewIds(MenuEditorScreen::copyId);
+                cur.add(at + 1, copy);
+                copies.add(copy);
+            }
+        });
+        markItems(copies);
+    }
+
+    private void copySelection() {
+        if (searchMode) return;
+        List<MenuItem> items = selectionItems();
+        if (!items.isEmpty()) MenuImportExport.copyItemsToClipboard(items);
+    }
+
+    /** Insert clipboard items (fresh ids) after the last selected item, or at the end of the page. */
+    private void pasteClipboard() {
+        if (searchMode) return;
+        List<MenuItem> parsed = MenuImportExport.readItemsFromClipboard();
+        if (parsed == null || parsed.isEmpty()) return;
+        List<MenuItem> items = selectionItems();
+        List<MenuItem> pasted = new ArrayList<>(parsed.size());
+        runBatch("Paste", () -> {
+            List<MenuItem> cur = current();
+            int at = cur.size();
+            if (!items.isEmpty()) {
+                int last = indexOfIdentity(cur, items.get(items.size() - 1));
+                if (last >= 0) at = last + 1;
+            }
+            for (MenuItem mi : parsed) {
+                MenuItem copy = mi.copyWithNewIds(MenuEditorScreen::copyId);
+                cur.add(at++, copy);
+                pasted.add(copy);
+            }
+        });
+        markItems(pasted);
+    }
+
+    private void selectAll() {
+        if (searchMode) return;
+        List<MenuItem> all = new ArrayList<>(contentCount);
+        for (Rows r : rows) if (r instanceof Rows.ItemRow ir) all.add(ir.item());
+        markItems(all);
+    }
+
+    /** Release of a group drag: into a bundle, back out to parent/root, or reorder as a block. */
+    private void dropGroup(int fromRow, int toRow) {
+        List<MenuItem> items = selectionItems();
+        Set<MenuItem> set = identitySet(items);
+        if (dropTargetCategory != null) {
+            MenuItem target = dropTargetCategory;
+            set.remove(target);
+            List<MenuItem> moving = new ArrayList<>(items);
+            moving.remove(target);
+            runBatch("Move into bundle", () -> {
+                current().removeIf(set::contains);
+                target.childrenMutable().addAll(moving);
+            });
+            selectedRow = -1;
+        } else if (dropSpecial != DropSpecial.NONE) {
+            List<MenuItem> dest = (dropSpecial == DropSpecial.BACK_PARENT) ? RadialMenu.parentItems() : RadialMenu.rootMutable();
+            if (dest == null) return;
+            runBatch("Move out", () -> {
+                current().removeIf(set::contains);
+                dest.addAll(items);
+            });
+            selectedRow = -1;
+        } else if (toRow >= 0 && toRow != fromRow && toRow != fromRow + 1) {
+            int toContent = rowToContentIndex(toRow);
+            final int slot = (toContent < 0) ? contentCount : toContent;
+            runBatch("Move group", () -> {
+                List<MenuItem> cur = current();
+                int before = 0;
+                for (int i = 0; i < slot && i < cur.size(); i++) if (set.contains(cur.get(i))) before++;
+                cur.removeIf(set::contains);
+                cur.addAll(Math.min(slot - before, cur.size()), items);
+            });
+            markItems(items);
+        } else {
+            // Pressed and released on a marked row without moving: collapse to that row
+            marked.clear();
+        }
+    }
+
+    private int rowToContentIndex(int rowIdx) {
+        if (rowIdx < 0 || rowIdx >= rows.size()) return -1;
+        return rowToContent[rowIdx];
+    }
+
+    private int contentIndexToRow(int contentIdx) {
+        if (contentIdx < 0 || contentIdx >= contentCount) return -1;
+        return contentToRow[contentIdx];
+    }
+
     // --- Screen lifecycle ----------------------------------------------------
 
     @Override
@@ -277,9 +588,13 @@ public final class MenuEditorScreen extends Screen {
         int y = top;
 
         // Filter
-        filterBox = new EditBox(this.font, x, y, LEFT_W, 20, Component.literal("Filter"));
-        filterBox.setHint(Component.literal("Filter…"));
-        filterBox.setResponder(s -> rebuildRows());
+        filterBox = new EditBox(this.font, x, y, LEFT_W, 20, Component.literal("Search"));
+        filterBox.setHint(Component.literal("Search all…"));
+        filterBox.setResponder(s -> {
+            selectedRow = -1;
+            scrollY = 0;
+            rebuildRows();
+        });
         addRenderableWidget(filterBox);
         y += 24;
 
@@ -290,16 +605,19 @@ public final class MenuEditorScreen extends Screen {
                     parent, null,
                     (newItem, editingOrNull) -> {
                         List<MenuItem> target = current();
-                        if (editingOrNull == null) target.add(newItem);
-                        else {
+                        if (editingOrNull == null) {
+                            target.add(newItem);
+                            RadialMenu.persist();
+                            insertRowPatched(rows.size(), newItem);
+                        } else {
                             for (int i1 = 0; i1 < target.size(); i1++) {
                                 if (Objects.equals(target.get(i1).id(), editingOrNull.id())) {
                                     target.set(i1, newItem); break;
                                 }
                             }
+                            RadialMenu.persist();
+                            rebuildRows();
                         }
-                        RadialMenu.persist();
-                        rebuildRows();
                         int idx2 = -1;
                         for (int i2 = 0; i2 < rows.size(); i2++) {
                             Rows r = rows.get(i2);
@@ -339,9 +657,28 @@ public final class MenuEditorScreen extends Screen {
 
         btnRemove = Button.builder(Component.literal("Remove Selected"), b -> onRemoveSelected())
                 .bounds(x, y, LEFT_W, 20).build();
+        btnRemove.setTooltip(Tooltip.create(Component.literal("Delete")));
         addRenderableWidget(btnRemove);
         y += 24;
 
+        // Copy | Paste, then Duplicate (act on every marked item)
+        int halfW = (LEFT_W - PAD) / 2;
+        btnCopy = Button.builder(Component.literal("Copy"), b -> copySelection())
+                .bounds(x, y, halfW, 20).build();
+        btnCopy.setTooltip(Tooltip.create(Component.literal("Ctrl+C")));
+        addRenderableWidget(btnCopy);
+        btnPaste = Button.builder(Component.literal("Paste"), b -> pasteClipboard())
+                .bounds(x + halfW + PAD, y, halfW, 20).build();
+        btnPaste.setTooltip(Tooltip.create(Component.literal("Ctrl+V")));
+        addRenderableWidget(btnPaste);
+        y += 24;
+
+        btnDuplicate = Button.builder(Component.literal("Duplicate"), b -> duplicateSelection())
+                .bounds(x, y, LEFT_W, 20).build();
+        btnDuplicate.setTooltip(Tooltip.create(Component.literal("Ctrl+D")));
+        addRenderableWidget(btnDuplicate);
+        y += 24;
+
         // --- Bottom-anchored controls (two rows, two columns) ----------------
         final int BTN_H = 20;
         final int VSTEP = 24;         // vertical spacing between rows
@@ -406,7 +743,10 @@ public final class MenuEditorScreen extends Screen {
 
         scrollY = 0;
         selectedRow = -1;
+        anchorRow = -1;
+        marked.clear();
         dragging = false;
+        dragGroup = false;
         dragRowIdx = -1;
         dropAt = -1;
         sbDragging = false;
@@ -421,6 +761,11 @@ public final class MenuEditorScreen extends Screen {
     private void onEditSelected() {
         if (selectedRow < 0 || selectedRow >= rows.size()) return;
         Rows r = rows.get(selectedRow);
+        if (r instanceof Rows.SearchHitRow sh) {
+            jumpTo(sh.hit(), false);
+            if (selectedRow >= 0) onEditSelected();
+            return;
+        }
 
         if (r instanceof Rows.BackToRootRow) {
             MenuNavUtil.goToRoot();
@@ -476,22 +821,35 @@ public final class MenuEditorScreen extends Screen {
     }
 
     private void onRemoveSelected() {
+        if (!marked.isEmpty() && !searchMode) {
+            removeItems(selectionItems());
+            return;
+        }
         if (selectedRow < 0 || selectedRow >= rows.size()) return;
         Rows r = rows.get(selectedRow);
+        if (r instanceof Rows.SearchHitRow sh) {
+            jumpTo(sh.hit(), false);
+            if (selectedRow >= 0) onRemoveSelected();
+            return;
+        }
         if (!(r instanceof Rows.ItemRow)) return;
 
         MenuItem mi = ((Rows.ItemRow) r).item();
         String id = mi.id();
+        int row = selectedRow;
+        selectedRow = -1;
         try {
             boolean ok = RadialMenu.removeFromCurrent(id);
             if (!ok) {
                 Constants.LOG.info("[{}] Remove failed for '{}'.", Constants.MOD_NAME, id);
+                return;
             }
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Remove exception for '{}': {}", Constants.MOD_NAME, id, t.toString());
+            rebuildRows();
+            return;
         }
-        selectedRow = -1;
-        rebuildRows();
+        removeRowPatched(row);
     }
 
     // --- Render --------------------------------------------------------------
@@ -524,7 +882,7 @@ public final class MenuEditorScreen extends Screen {
             boolean isBackRoot   = (r instanceof Rows.BackToRootRow);
             boolean isBackParent = (r instanceof Rows.BackToParentRow);
 
-            boolean sel = (i == selectedRow) && !isBreadcrumb;
+            boolean sel = (i == selectedRow || isMarked(i)) && !isBreadcrumb;
             boolean hov = (i == hoveredRow) && !isBreadcrumb;
 
             if (sel) g.fill(listLeft, y, listLeft + listWidth, y + ROW_H, HILITE);
@@ -544,8 +902,9 @@ public final class MenuEditorScreen extends Screen {
                 g.drawString(this.font, txt, listLeft + 8, y + (ROW_H - this.font.lineHeight) / 2, 0xFF0000);
 
             } else {
-                // --- Normal item row (action or bundle) ---
-                MenuItem mi = ((Rows.ItemRow) r).item();
+                // --- Normal item row (action or bundle), or a search result ---
+                Rows.SearchHitRow hitRow = (r instanceof Rows.SearchHitRow sh) ? sh : null;
+                MenuItem mi = (hitRow != null) ? hitRow.item() : ((Rows.ItemRow) r).item();
                 int textX = listLeft + 8;
 
                 // Icon
@@ -585,9 +944,12 @@ public final class MenuEditorScreen extends Screen {
                 if (mi.isCategory()) name = "§c(RMB to open)§r " + name;
                 g.drawString(this.font, name, titleX, y + (ROW_H - this.font.lineHeight) / 2, 0xFFFFFF);
 
-                // Right-aligned type label (BUNDLE for categories)
+                // Right-aligned type label (BUNDLE for categories); search results show their path
                 org.z2six.ezactions.data.click.IClickAction act = mi.action();
                 String t = (act != null) ? act.getType().name() : "BUNDLE";
+                if (hitRow != null) {
+                    t = this.font.plainSubstrByWidth(hitRow.hit().breadcrumb(), listWidth / 2);
+                }
                 int tw = this.font.width(t);
                 g.drawString(this.font, t, listLeft + listWidth - tw - 8, y + (ROW_H - this.font.lineHeight) / 2, 0xA0A0A0);
             }
@@ -612,6 +974,7 @@ public final class MenuEditorScreen extends Screen {
                 }
                 String name = mi.title() == null ? "(untitled)" : mi.title();
                 if (mi.isCategory()) name = "§c(RMB to open)§r " + name;
+                if (dragGroup) name += " §7(+" + (marked.size() - 1) + ")";
                 g.drawString(this.font, name, ghostTextX, yGhost + (ROW_H - this.font.lineHeight) / 2, 0xFFFFFF);
             }
 
@@ -678,6 +1041,11 @@ public final class MenuEditorScreen extends Screen {
             int idx = mouseToRow(mouseY);
             if (idx >= 0 && idx < rowCount()) {
                 Rows r = rows.get(idx);
+                if (r instanceof Rows.SearchHitRow sh && (button == 0 || button == 1)) {
+                    jumpTo(sh.hit(), button == 1);
+                    return true;
+                }
+                int prevSelected = selectedRow;
                 selectedRow = (r instanceof Rows.BreadcrumbRow) ? -1 : idx;
                 ensureSelectedVisible();
 
@@ -717,7 +1085,30 @@ public final class MenuEditorScreen extends Screen {
                         selectedRow = -1;
                         rebuildRows();
                         return true;
-                    } else if (r instanceof Rows.ItemRow) {
+                    } else if (r instanceof Rows.ItemRow ir) {
+                        // Shift: mark a range from the anchor (Ctrl+Shift adds to the marks)
+                        if (hasShiftDown()) {
+                            if (!hasControlDown()) marked.clear();
+                            markRange(anchorRow >= 0 ? anchorRow : idx, idx);
+                            return true;
+                        }
+                        // Ctrl: toggle this item (the previously selected item joins the marks)
+                        if (hasControlDown()) {
+                            if (marked.isEmpty() && prevSelected >= 0 && prevSelected < rows.size()
+                                    && rows.get(prevSelected) instanceof Rows.ItemRow prev) {
+                                marked.add(prev.item());
+                            }
+                            if (!marked.add(ir.item())) {
+                                marked.remove(ir.item());
+                                selectedRow = -1;
+                            }
+                            anchorRow = idx;
+                            return true;
+                        }
+                        if (!marked.contains(ir.item())) marked.clear();
+                        anchorRow = idx;
+                        dragGroup = marked.size() > 1;
+
                         // Start drag
                         dragging = true;
                         dragRowIdx = idx;
@@ -768,6 +1159,7 @@ public final class MenuEditorScreen extends Screen {
         if (r instanceof Rows.ItemRow ir) {
             MenuItem target = ir.item();
             if (target.isCategory()) {
+                if (dragGroup && marked.contains(target)) return;
                 if (dragRowIdx >= 0 && dragRowIdx < rows.size()) {
                     Rows dr = rows.get(dragRowIdx);
                     if (dr instanceof Rows.ItemRow dir) {
@@ -832,8 +1224,19 @@ public final class MenuEditorScreen extends Screen {
             dragging = false;
             dragRowIdx = -1;
 
+            if (dragGroup) {
+                dragGroup = false;
+                dropGroup(fromRow, toRow);
+                dropTargetCategory = null;
+                dropTargetRowIdx = -1;
+                dropSpecial = DropSpecial.NONE;
+                dropAt = -1;
+                return true;
+            }
+
             // Special targets: move OUT to parent/root WITHOUT changing the final view
             if (dropSpecial != DropSpecial.NONE) {
+                boolean movedOut = false;
                 try {
                     int fromContent = rowToContentIndex(fromRow);
                     if (fromContent >= 0) {
@@ -859,6 +1262,7 @@ public final class MenuEditorScreen extends Screen {
 
                                 if (appended) {
                                     RadialMenu.persist();
+                                    movedOut = true;
                                 } else {
                                     // rollback if we couldn't append
                                     int safeIdx = Math.min(fromContent, cur.size());
@@ -871,7 +1275,7 @@ public final class MenuEditorScreen extends Screen {
                     Constants.LOG.warn("[{}] Drop-back exception: {}", Constants.MOD_NAME, t.toString());
                 }
 
-                rebuildRows();
+                if (movedOut) removeRowPatched(fromRow); else rebuildRows();
                 selectedRow = -1;
                 ensureSelectedVisible();
 
@@ -884,6 +1288,7 @@ public final class MenuEditorScreen extends Screen {
 
             // Drop INTO category
             if (dropTargetCategory != null) {
+                boolean movedOut = false;
                 try {
                     int fromContent = rowToContentIndex(fromRow);
                     if (fromContent >= 0) {
@@ -902,6 +1307,7 @@ public final class MenuEditorScreen extends Screen {
                                     try {
                                         dropTargetCategory.childrenMutable().add(moved);
                                         RadialMenu.persist();
+                                        movedOut = true;
                                         Constants.LOG.debug("[{}] Dropped '{}' into category '{}'", Constants.MOD_NAME, moved.id(), dropTargetCategory.id());
                                     } catch (Throwable t) {
                                         Constants.LOG.warn("[{}] Drop-into: append failed: {}", Constants.MOD_NAME, t.toString());
@@ -920,7 +1326,7 @@ public final class MenuEditorScreen extends Screen {
                     Constants.LOG.warn("[{}] Drop-into exception: {}", Constants.MOD_NAME, t.toString());
                 }
 
-                rebuildRows();
+                if (movedOut) removeRowPatched(fromRow); else rebuildRows();
                 selectedRow = -1;
                 ensureSelectedVisible();
 
@@ -939,13 +1345,15 @@ public final class MenuEditorScreen extends Screen {
                 if (fromContent >= 0 && toContent >= 0) {
                     try {
                         boolean ok = RadialMenu.moveInCurrent(fromContent, toContent);
-                        if (!ok) {
+                        if (ok) {
+                            moveRowPatched(fromRow, toRow);
+                        } else {
                             Constants.LOG.info("[{}] Move failed: {} -> {}", Constants.MOD_NAME, fromContent, toContent);
                         }
                     } catch (Throwable t) {
                         Constants.LOG.warn("[{}] Move exception: {} -> {} : {}", Constants.MOD_NAME, fromContent, toContent, t.toString());
+                        rebuildRows();
                     }
-                    rebuildRows();
                     int newRow = contentIndexToRow(toContent > fromContent ? (toContent - 1) : toContent);
                     selectedRow = newRow;
                     ensureSelectedVisible();
@@ -961,6 +1369,26 @@ public final class MenuEditorScreen extends Screen {
         return super.mouseReleased(mouseX, mouseY, button);
     }
 
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (filterBox == null || !filterBox.isFocused()) {
+            if (hasControlDown()) {
+                switch (keyCode) {
+                    case GLFW.GLFW_KEY_A -> { selectAll(); return true; }
+                    case GLFW.GLFW_KEY_C -> { copySelection(); return true; }
+                    case GLFW.GLFW_KEY_V -> { pasteClipboard(); return true; }
+                    case GLFW.GLFW_KEY_D -> { duplicateSelection(); return true; }
+                    default -> {}
+                }
+            }
+            if (keyCode == GLFW.GLFW_KEY_DELETE) {
+                onRemoveSelected();
+                return true;
+            }
+        }
+        return super.keyPressed(keyCode, scanCode, modifiers);
+    }
+
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double deltaX, double deltaY) {
         ScrollbarMath.Metrics sb = ScrollbarMath.compute(
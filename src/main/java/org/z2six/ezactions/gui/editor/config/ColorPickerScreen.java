@@ -1,15 +1,19 @@
 // MainFile: src/main/java/org/z2six/ezactions/gui/editor/config/ColorPickerScreen.java
 package org.z2six.ezactions.gui.editor.config;
 
-import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.platform.NativeImage;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.AbstractSliderButton;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.FastColor;
 import net.minecraft.util.Mth;
+import org.z2six.ezactions.Constants;
 
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -18,8 +22,12 @@ import java.util.function.Consumer;
  * NeoForge/Minecraft 1.21.1 compatible color picker:
  * - Hex field (#AARRGGBB / #RRGGBB)
  * - Alpha percent field (0..100) + slider
- * - Hue slider + SV square (simple gradient rendering)
+ * - Hue slider + SV square
  * - OK/Cancel with callback so parent can persist
+ *
+ * The SV square, hue bar and preview checkerboard are small DynamicTextures drawn with one blit
+ * each. Only the SV texture depends on state; it is regenerated when the hue changes. Textures are
+ * created lazily on first render and released when the screen is removed.
  */
 public class ColorPickerScreen extends Screen {
 
@@ -52,6 +60,17 @@ public class ColorPickerScreen extends Screen {
     private boolean draggingSV = false;
     private boolean draggingHue = false;
 
+    // Gradient textures (pixel size == GUI size of the area they cover)
+    private static final ResourceLocation SV_TEX = ResourceLocation.fromNamespaceAndPath(Constants.MOD_ID, "dynamic/color_picker_sv");
+    private static final ResourceLocation HUE_TEX = ResourceLocation.fromNamespaceAndPath(Constants.MOD_ID, "dynamic/color_picker_hue");
+    private static final ResourceLocation CHECKER_TEX = ResourceLocation.fromNamespaceAndPath(Constants.MOD_ID, "dynamic/color_picker_checker");
+    private static final int PREVIEW_W = 40;
+    private static final int PREVIEW_H = 20;
+    private DynamicTexture svTexture;
+    private DynamicTexture hueTexture;
+    private DynamicTexture checkerTexture;
+    private float svTextureHue = Float.NaN;
+
     public ColorPickerScreen(Screen parent, int initialArgb, Consumer<Integer> onPick) {
         super(Component.literal("Pick Color"));
         this.parent = parent;
@@ -169,6 +188,8 @@ public class ColorPickerScreen extends Screen {
         // Title (drawn above everything, but our widgets are placed below due to contentTop)
         gfx.drawString(this.font, this.title, contentLeft, contentTop - (this.font.lineHeight + 6), 0x808080, false);
 
+        ensureTextures();
+
         // SV square
         drawSVSquare(gfx, svX, svY, svW, svH);
 
@@ -188,10 +209,10 @@ public class ColorPickerScreen extends Screen {
         // Small preview swatch with checker
         int previewX = hueX + hueW + 12;
         int previewY = svY;
-        int previewW = 40;
-        int previewH = 20;
+        int previewW = PREVIEW_W;
+        int previewH = PREVIEW_H;
         int argb = ((alpha & 0xFF) << 24) | ((red & 0xFF) << 16) | ((green & 0xFF) << 8) | (blue & 0xFF);
-        drawChecker(gfx, previewX, previewY, previewW, previewH, 4);
+        drawChecker(gfx, previewX, previewY, previewW, previewH);
         gfx.fill(previewX, previewY, previewX + previewW, previewY + previewH, argb);
 
         // Right-side labels for fields
@@ -203,61 +224,87 @@ public class ColorPickerScreen extends Screen {
         super.render(gfx, mouseX, mouseY, partialTick);
     }
 
-    private void drawChecker(GuiGraphics gfx, int x, int y, int w, int h, int cell) {
-        int c1 = 0xFFB0B0B0;
-        int c2 = 0xFF8A8A8A;
-        for (int yy = y; yy < y + h; yy += cell) {
-            for (int xx = x; xx < x + w; xx += cell) {
-                boolean alt = (((xx - x) / cell) + ((yy - y) / cell)) % 2 == 0;
-                gfx.fill(xx, yy, Math.min(xx + cell, x + w), Math.min(yy + cell, y + h), alt ? c1 : c2);
-            }
-        }
+    private void drawChecker(GuiGraphics gfx, int x, int y, int w, int h) {
+        if (checkerTexture != null) gfx.blit(CHECKER_TEX, x, y, 0f, 0f, w, h, PREVIEW_W, PREVIEW_H);
     }
 
     private void drawSVSquare(GuiGraphics gfx, int x, int y, int w, int h) {
-        // Base: pure hue (sat=1, val=1)
-        int[] rgb = ColorUtil.hsvToRgb(hue, 1f, 1f);
-        int base = 0xFF000000 | (rgb[0] << 16) | (rgb[1] << 8) | rgb[2];
-        gfx.fill(x, y, x + w, y + h, base);
-
-        RenderSystem.enableBlend();
-        // Overlay left->right white gradient (slice-based)
-        int steps = 16;
-        for (int i = 0; i < steps; i++) {
-            int x0 = x + (i * w) / steps;
-            int x1 = x + ((i + 1) * w) / steps;
-            float t = 1f - (i + 0.5f) / steps;
-            int a = (int) (t * 255f);
-            int col = (a << 24) | 0x00FFFFFF;
-            gfx.fill(x0, y, x1, y + h, col);
+        if (svTexture == null) return;
+        if (svTextureHue != hue) {
+            // Only the SV gradient depends on state: regenerate it for the new hue
+            fillSV(svTexture.getPixels(), hue);
+            svTexture.upload();
+            svTextureHue = hue;
         }
-        // Overlay top->bottom black gradient
-        gfx.fillGradient(x, y, x + w, y + h, 0x00000000, 0xFF000000);
-        RenderSystem.disableBlend();
+        gfx.blit(SV_TEX, x, y, 0f, 0f, w, h, svW, svH);
     }
 
     private void drawHueBar(GuiGraphics gfx, int x, int y, int w, int h) {
-        int segH = h / 6;
-        int y0 = y;
-        fillHueSegment(gfx, x, y0, w, segH, 0f, 1f/6f); y0 += segH;
-        fillHueSegment(gfx, x, y0, w, segH, 1f/6f, 2f/6f); y0 += segH;
-        fillHueSegment(gfx, x, y0, w, segH, 2f/6f, 3f/6f); y0 += segH;
-        fillHueSegment(gfx, x, y0, w, segH, 3f/6f, 4f/6f); y0 += segH;
-        fillHueSegment(gfx, x, y0, w, segH, 4f/6f, 5f/6f); y0 += segH;
-        fillHueSegment(gfx, x, y0, w, h - 5*segH, 5f/6f, 1f);
+        if (hueTexture != null) gfx.blit(HUE_TEX, x, y, 0f, 0f, w, h, hueW, hueH);
     }
 
-    private void fillHueSegment(GuiGraphics gfx, int x, int y, int w, int h, float h0, float h1) {
-        int steps = Math.max(8, h / 2);
-        for (int i = 0; i < steps; i++) {
-            float t = (i + 0.5f) / steps;
-            float hh = Mth.lerp(t, h0, h1);
-            int[] rgb = ColorUtil.hsvToRgb(hh, 1f, 1f);
-            int col = 0xFF000000 | (rgb[0] << 16) | (rgb[1] << 8) | rgb[2];
-            int yy0 = y + (i * h) / steps;
-            int yy1 = y + ((i + 1) * h) / steps;
-            gfx.fill(x, yy0, x + w, yy1, col);
+    // --- Gradient textures ---
+
+    /** Create the textures on first use (sizes are fixed by init's layout). */
+    private void ensureTextures() {
+        if (svTexture != null) return;
+        try {
+            svTexture = new DynamicTexture(new NativeImage(NativeImage.Format.RGBA, svW, svH, false));
+            this.minecraft.getTextureManager().register(SV_TEX, svTexture);
+            svTextureHue = Float.NaN;
+
+            NativeImage hueImg = new NativeImage(NativeImage.Format.RGBA, hueW, hueH, false);
+            for (int py = 0; py < hueH; py++) {
+                int[] rgb = ColorUtil.hsvToRgb(py / (float) Math.max(1, hueH - 1), 1f, 1f);
+                int abgr = FastColor.ABGR32.color(255, rgb[2], rgb[1], rgb[0]);
+                for (int px = 0; px < hueW; px++) hueImg.setPixelRGBA(px, py, abgr);
+            }
+            hueTexture = new DynamicTexture(hueImg);
+            this.minecraft.getTextureManager().register(HUE_TEX, hueTexture);
+
+            NativeImage checkerImg = new NativeImage(NativeImage.Format.RGBA, PREVIEW_W, PREVIEW_H, false);
+            int c1 = FastColor.ABGR32.fromArgb32(0xFFB0B0B0);
+            int c2 = FastColor.ABGR32.fromArgb32(0xFF8A8A8A);
+            final int cell = 4;
+            for (int py = 0; py < PREVIEW_H; py++) {
+                for (int px = 0; px < PREVIEW_W; px++) {
+                    checkerImg.setPixelRGBA(px, py, ((px / cell + py / cell) % 2 == 0) ? c1 : c2);
+                }
+            }
+            checkerTexture = new DynamicTexture(checkerImg);
+            this.minecraft.getTextureManager().register(CHECKER_TEX, checkerTexture);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Color picker textures failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** Saturation left->right, value top->bottom, for a fixed hue. */
+    private static void fillSV(NativeImage img, float hue) {
+        if (img == null) return;
+        int w = img.getWidth();
+        int h = img.getHeight();
+        for (int py = 0; py < h; py++) {
+            float v = 1f - py / (float) Math.max(1, h - 1);
+            for (int px = 0; px < w; px++) {
+                int[] rgb = ColorUtil.hsvToRgb(hue, px / (float) Math.max(1, w - 1), v);
+                img.setPixelRGBA(px, py, FastColor.ABGR32.color(255, rgb[2], rgb[1], rgb[0]));
+            }
+        }
+    }
+
+    @Override
+    public void removed() {
+        super.removed();
+        try {
+            if (svTexture != null) this.minecraft.getTextureManager().release(SV_TEX);
+            if (hueTexture != null) this.minecraft.getTextureManager().release(HUE_TEX);
+            if (checkerTexture != null) this.minecraft.getTextureManager().release(CHECKER_TEX);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Color picker texture release failed: {}", Constants.MOD_NAME, t.toString());
         }
+        svTexture = null;
+        hueTexture = null;
+        checkerTexture = null;
     }
 
     // --- Mouse handling for SV and Hue ---
@@ -9,6 +9,7 @@ import net.minecraft.client.gui.components.EditBox;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.ConfigSnapshot;
 import org.z2six.ezactions.config.DesignClientConfig;
 import org.z2six.ezactions.config.GeneralClientConfig;
 import org.z2six.ezactions.config.RadialAnimConfig;
@@ -37,6 +38,7 @@ public final class ConfigScreen extends Screen {
     // General
     private boolean draftMoveWhileRadialOpen;
     private int draftCmdVisibleLines;
+    private boolean draftFlickSelection;
 
     // Anim
     private boolean draftAnimEnabled;
@@ -44,6 +46,7 @@ public final class ConfigScreen extends Screen {
     private boolean draftAnimHover;
     private double  draftHoverGrowPct;
     private int     draftOpenCloseMs;
+    private RadialAnimConfig.QualityProfile draftQualityProfile = RadialAnimConfig.QualityProfile.AUTO;
 
     // Design
     private int draftDeadzone;
@@ -51,6 +54,8 @@ public final class ConfigScreen extends Screen {
     private int draftRingThickness;
     private int draftScaleStartThreshold;
     private int draftScalePerItem;
+    private int draftMaxItemsPerRing;
+    private int draftMaxRings;
     private int draftRingColor;   // ARGB
     private int draftHoverColor;  // ARGB
 
@@ -58,6 +63,7 @@ public final class ConfigScreen extends Screen {
     // General
     private CycleButton<Boolean> wMoveWhileOpen;
     private EditBox wCmdLines;
+    private CycleButton<Boolean> wFlick;
 
     // Anim
     private CycleButton<Boolean> wAnimEnabled;
@@ -65,9 +71,10 @@ public final class ConfigScreen extends Screen {
     private CycleButton<Boolean> wAnimHover;
     private EditBox wHoverGrowPct;
     private EditBox wOpenCloseMs;
+    private CycleButton<RadialAnimConfig.QualityProfile> wQuality;
 
     // Design
-    private EditBox wDeadzone, wOuter, wThick, wScaleStart, wScalePer;
+    private EditBox wDeadzone, wOuter, wThick, wScaleStart, wScalePer, wPerRing, wRings;
     private Button  wRingPick, wHoverPick;
 
     public ConfigScreen(Screen parent) {
@@ -90,6 +97,7 @@ public final class ConfigScreen extends Screen {
             // General
             draftMoveWhileRadialOpen = GeneralClientConfig.CONFIG.moveWhileRadialOpen();
             draftCmdVisibleLines     = GeneralClientConfig.CONFIG.commandEditorVisibleLines();
+            draftFlickSelection      = GeneralClientConfig.CONFIG.flickSelection();
 
             // Anim
             draftAnimEnabled    = RadialAnimConfig.CONFIG.animationsEnabled();
@@ -97,6 +105,7 @@ public final class ConfigScreen extends Screen {
             draftAnimHover      = RadialAnimConfig.CONFIG.animHover();
             draftHoverGrowPct   = RadialAnimConfig.CONFIG.hoverGrowPct();
             draftOpenCloseMs    = RadialAnimConfig.CONFIG.openCloseMs();
+            draftQualityProfile = RadialAnimConfig.CONFIG.qualityProfile();
 
             // Design
             draftDeadzone            = DesignClientConfig.deadzone.get();
@@ -104,6 +113,8 @@ public final class ConfigScreen extends Screen {
             draftRingThickness       = DesignClientConfig.ringThickness.get();
             draftScaleStartThreshold = DesignClientConfig.scaleStartThreshold.get();
             draftScalePerItem        = DesignClientConfig.scalePerItem.get();
+            draftMaxItemsPerRing     = DesignClientConfig.maxItemsPerRing.get();
+            draftMaxRings            = DesignClientConfig.maxRings.get();
             draftRingColor           = DesignClientConfig.ringColor.get();
             draftHoverColor          = DesignClientConfig.hoverColor.get();
         } catch (Throwable t) {
@@ -162,6 +173,12 @@ public final class ConfigScreen extends Screen {
                 wCmdLines = new EditBox(this.font, formX, formY + row * 28, FIELD_W, FIELD_H, Component.literal(""));
                 wCmdLines.setValue(Integer.toString(draftCmdVisibleLines));
                 addRenderableWidget(wCmdLines);
+                row++;
+
+                wFlick = addRenderableWidget(
+                        CycleButton.onOffBuilder(draftFlickSelection)
+                                .create(formX, formY + row * 28, FIELD_W, FIELD_H, Component.literal("Flick Selection"))
+                );
             }
 
             case ANIM -> {
@@ -191,6 +208,14 @@ public final class ConfigScreen extends Screen {
                 wOpenCloseMs = new EditBox(this.font, formX, formY + row * 28, FIELD_W, FIELD_H, Component.literal(""));
                 wOpenCloseMs.setValue(Integer.toString(draftOpenCloseMs));
                 addRenderableWidget(wOpenCloseMs);
+                row++;
+
+                wQuality = addRenderableWidget(
+                        CycleButton.<RadialAnimConfig.QualityProfile>builder(p -> Component.literal(p.name()))
+                                .withValues(RadialAnimConfig.QualityProfile.values())
+                                .withInitialValue(draftQualityProfile)
+                                .create(formX, formY + row * 28, FIELD_W, FIELD_H, Component.literal("Render Quality"))
+                );
             }
 
             case DESIGN -> {
@@ -199,6 +224,8 @@ public final class ConfigScreen extends Screen {
                 wThick    = addIntBox(formX, formY + row * 28, FIELD_W, FIELD_H, draftRingThickness); row++;
                 wScaleStart = addIntBox(formX, formY + row * 28, FIELD_W, FIELD_H, draftScaleStartThreshold); row++;
                 wScalePer   = addIntBox(formX, formY + row * 28, FIELD_W, FIELD_H, draftScalePerItem); row++;
+                wPerRing    = addIntBox(formX, formY + row * 28, FIELD_W, FIELD_H, draftMaxItemsPerRing); row++;
+                wRings      = addIntBox(formX, formY + row * 28, FIELD_W, FIELD_H, draftMaxRings); row++;
 
                 int btnY = formY + row * 28;
                 wRingPick = Button.builder(Component.literal("Pick Ring Color…"), b -> {
@@ -235,9 +262,11 @@ public final class ConfigScreen extends Screen {
                 case GENERAL -> {
                     draftMoveWhileRadialOpen = wMoveWhileOpen != null && Boolean.TRUE.equals(wMoveWhileOpen.getValue());
                     draftCmdVisibleLines = clamp(parseSafeInt(wCmdLines, 5), 1, 20);
+                    draftFlickSelection = wFlick != null && Boolean.TRUE.equals(wFlick.getValue());
 
                     GeneralClientConfig.CONFIG.moveWhileRadialOpen.set(draftMoveWhileRadialOpen);
                     GeneralClientConfig.CONFIG.commandEditorVisibleLines.set(draftCmdVisibleLines);
+                    GeneralClientConfig.CONFIG.flickSelection.set(draftFlickSelection);
                 }
                 case ANIM -> {
                     draftAnimEnabled   = wAnimEnabled != null && Boolean.TRUE.equals(wAnimEnabled.getValue());
@@ -245,12 +274,14 @@ public final class ConfigScreen extends Screen {
                     draftAnimHover     = wAnimHover != null && Boolean.TRUE.equals(wAnimHover.getValue());
                     draftHoverGrowPct  = clampDouble(parseSafeDouble(wHoverGrowPct, 0.05), 0.0, 0.5);
                     draftOpenCloseMs   = clamp(parseSafeInt(wOpenCloseMs, 125), 0, 2000);
+                    if (wQuality != null && wQuality.getValue() != null) draftQualityProfile = wQuality.getValue();
 
                     RadialAnimConfig.CONFIG.animationsEnabled.set(draftAnimEnabled);
                     RadialAnimConfig.CONFIG.animOpenClose.set(draftAnimOpenClose);
                     RadialAnimConfig.CONFIG.animHover.set(draftAnimHover);
                     RadialAnimConfig.CONFIG.hoverGrowPct.set(draftHoverGrowPct);
                     RadialAnimConfig.CONFIG.openCloseMs.set(draftOpenCloseMs);
+                    RadialAnimConfig.CONFIG.qualityProfile.set(draftQualityProfile);
                 }
                 case DESIGN -> {
                     draftDeadzone            = clamp(parseSafeInt(wDeadzone, 18), 0, 90);
@@ -258,17 +289,22 @@ public final class ConfigScreen extends Screen {
                     draftRingThickness       = clamp(parseSafeInt(wThick, 28), 6, 256);
                     draftScaleStartThreshold = clamp(parseSafeInt(wScaleStart, 8), 0, 128);
                     draftScalePerItem        = clamp(parseSafeInt(wScalePer, 6), 0, 100);
+                    draftMaxItemsPerRing     = clamp(parseSafeInt(wPerRing, 20), 4, 64);
+                    draftMaxRings            = clamp(parseSafeInt(wRings, 2), 1, 4);
 
                     DesignClientConfig.deadzone.set(draftDeadzone);
                     DesignClientConfig.baseOuterRadius.set(draftBaseOuterRadius);
                     DesignClientConfig.ringThickness.set(draftRingThickness);
                     DesignClientConfig.scaleStartThreshold.set(draftScaleStartThreshold);
                     DesignClientConfig.scalePerItem.set(draftScalePerItem);
+                    DesignClientConfig.maxItemsPerRing.set(draftMaxItemsPerRing);
+                    DesignClientConfig.maxRings.set(draftMaxRings);
                     DesignClientConfig.ringColor.set(draftRingColor);
                     DesignClientConfig.hoverColor.set(draftHoverColor);
                 }
             }
 
+            ConfigSnapshot.rebuild(); // apply to the radial right away
             buildUI(); // reflect clamps
             Constants.LOG.info("[{}] Config saved (section: {})", Constants.MOD_NAME, section.name());
         } catch (Throwable t) {
@@ -318,6 +354,8 @@ public final class ConfigScreen extends Screen {
                 drawRightLabel(g, wThick,       "Ring Thickness");
                 drawRightLabel(g, wScaleStart,  "Scale Start");
                 drawRightLabel(g, wScalePer,    "Scale / Item");
+                drawRightLabel(g, wPerRing,     "Max Items / Ring (4–64)");
+                drawRightLabel(g, wRings,       "Max Rings (1–4)");
 
                 // Color previews to the right of buttons
                 if (wRingPick != null) {
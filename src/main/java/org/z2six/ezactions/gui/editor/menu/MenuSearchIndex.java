@@ -0,0 +1,200 @@
+// MainFile: src/main/java/org/z2six/ezactions/gui/editor/menu/MenuSearchIndex.java
+package org.z2six.ezactions.gui.editor.menu;
+
+import net.minecraft.locale.Language;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.data.click.ClickActionCommand;
+import org.z2six.ezactions.data.click.ClickActionKey;
+import org.z2six.ezactions.data.click.IClickAction;
+import org.z2six.ezactions.data.menu.MenuItem;
+import org.z2six.ezactions.data.menu.RadialMenu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * // MainFile: src/main/java/org/z2six/ezactions/gui/editor/menu/MenuSearchIndex.java
+ *
+ * Inverted word index over the whole menu tree for the editor's search box.
+ * Indexed per item: title, note, command text and key mapping name (raw id and localized label).
+ *
+ * Maintenance is incremental: MenuItem is immutable apart from its children list, so words are kept
+ * per item instance. When {@link RadialMenu#modelVersion()} changes, the tree is walked once to
+ * refresh paths and order; only instances not seen before are tokenized and added, and instances
+ * no longer in the tree are dropped from their postings. A language change re-tokenizes everything
+ * (key mapping labels are localized).
+ *
+ * Queries: every query word must prefix some word of the item. Candidates come from the sorted
+ * postings of the first word (prefix range), the rest are checked against the item's own words.
+ * Results are in tree order. Client thread only; never throws.
+ */
+public final class MenuSearchIndex {
+
+    private MenuSearchIndex() {}
+
+    /** One search result: the item, its ancestor categories (root first) and a display path. */
+    public record Hit(MenuItem item, List<MenuItem> path, String breadcrumb) {}
+
+    private static final class Entry {
+        final String[] words;
+        List<MenuItem> path = List.of();
+        int order;
+        int seen;
+        Entry(String[] words) { this.words = words; }
+    }
+
+    private static final Map<MenuItem, Entry> ENTRIES = new IdentityHashMap<>();
+    private static final TreeMap<String, Set<MenuItem>> POSTINGS = new TreeMap<>();
+    private static int builtModel = -1;
+    private static Language builtLanguage = null;
+    private static int generation = 0;
+
+    /** Matches for {@code query} in tree order, at most {@code limit}; null for a blank query. */
+    public static List<Hit> search(String query, int limit) {
+        String[] terms = split(query);
+        if (terms.length == 0) return null;
+        try {
+            sync();
+
+            List<Entry> found = new ArrayList<>();
+            List<MenuItem> items = new ArrayList<>();
+            Set<MenuItem> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Set<MenuItem> post : POSTINGS.subMap(terms[0], true, terms[0] + Character.MAX_VALUE, false).values()) {
+                for (MenuItem mi : post) {
+                    if (!seen.add(mi)) continue;
+                    Entry e = ENTRIES.get(mi);
+                    if (e != null && matchesAll(e, terms)) {
+                        found.add(e);
+                        items.add(mi);
+                    }
+                }
+            }
+
+            Integer[] order = new Integer[found.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Integer.compare(found.get(a).order, found.get(b).order));
+
+            int n = Math.min(limit, order.length);
+            List<Hit> out = new ArrayList<>(n);
+            for (int k = 0; k < n; k++) {
+                Entry e = found.get(order[k]);
+                out.add(new Hit(items.get(order[k]), e.path, breadcrumb(e.path)));
+            }
+            return out;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Menu search failed: {}", Constants.MOD_NAME, t.toString());
+            return List.of();
+        }
+    }
+
+    /** Bring the index up to date with the model; cheap when nothing changed. */
+    private static void sync() {
+        int model = RadialMenu.modelVersion();
+        Language lang = Language.getInstance();
+        if (model == builtModel && lang == builtLanguage) return;
+
+        long t0 = System.nanoTime();
+        if (lang != builtLanguage) {
+            ENTRIES.clear();
+            POSTINGS.clear();
+        }
+        int gen = ++generation;
+        int[] counters = new int[2]; // [order, newly indexed]
+        walk(RadialMenu.rootMutable(), new ArrayList<>(), gen, lang, counters);
+
+        // Drop instances that left the tree
+        int dropped = 0;
+        for (Iterator<Map.Entry<MenuItem, Entry>> it = ENTRIES.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<MenuItem, Entry> me = it.next();
+            if (me.getValue().seen == gen) continue;
+            for (String w : me.getValue().words) {
+                Set<MenuItem> post = POSTINGS.get(w);
+                if (post == null) continue;
+                post.remove(me.getKey());
+                if (post.isEmpty()) POSTINGS.remove(w);
+            }
+            it.remove();
+            dropped++;
+        }
+
+        builtModel = RadialMenu.modelVersion();
+        builtLanguage = lang;
+        Constants.LOG.debug("[{}] Menu search index: {} items ({} new, {} dropped), {} words, {} us.",
+                Constants.MOD_NAME, ENTRIES.size(), counters[1], dropped, POSTINGS.size(),
+                (System.nanoTime() - t0) / 1_000L);
+    }
+
+    private static void walk(List<MenuItem> level, List<MenuItem> path, int gen, Language lang, int[] counters) {
+        if (level == null) return;
+        List<MenuItem> frozenPath = List.copyOf(path);
+        for (MenuItem mi : level) {
+            if (mi == null) continue;
+            Entry e = ENTRIES.get(mi);
+            if (e == null) {
+                e = new Entry(wordsOf(mi, lang));
+                ENTRIES.put(mi, e);
+                for (String w : e.words) {
+                    POSTINGS.computeIfAbsent(w, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(mi);
+                }
+                counters[1]++;
+            }
+            e.path = frozenPath;
+            e.order = counters[0]++;
+            e.seen = gen;
+
+            if (mi.isCategory()) {
+                path.add(mi);
+                walk(mi.childrenMutable(), path, gen, lang, counters);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    private static String[] wordsOf(MenuItem mi, Language lang) {
+        StringBuilder sb = new StringBuilder(64);
+        if (mi.title() != null) sb.append(mi.title()).append(' ');
+        if (mi.note() != null) sb.append(mi.note()).append(' ');
+        IClickAction act = mi.action();
+        if (act instanceof ClickActionCommand c) {
+            if (c.getCommand() != null) sb.append(c.getCommand()).append(' ');
+        } else if (act instanceof ClickActionKey k) {
+            String name = k.mappingName();
+            if (name != null) sb.append(name).append(' ').append(lang.getOrDefault(name, name)).append(' ');
+        }
+        return Arrays.stream(split(sb.toString())).distinct().toArray(String[]::new);
+    }
+
+    private static boolean matchesAll(Entry e, String[] terms) {
+        outer:
+        for (int t = 1; t < terms.length; t++) {
+            for (String w : e.words) if (w.startsWith(terms[t])) continue outer;
+            return false;
+        }
+        return true;
+    }
+
+    private static String breadcrumb(List<MenuItem> path) {
+        StringBuilder sb = new StringBuilder("root");
+        for (MenuItem cat : path) {
+            String t = cat.title() == null || cat.title().isEmpty() ? "(unnamed)" : cat.title();
+            sb.append(" / ").append(t);
+        }
+        return sb.toString();
+    }
+
+    /** Lowercase words; anything that is not a letter or digit separates words. */
+    private static String[] split(String s) {
+        if (s == null) return new String[0];
+        String t = s.toLowerCase(Locale.ROOT).trim();
+        if (t.isEmpty()) return new String[0];
+        return Arrays.stream(t.split("[^\\p{L}\\p{N}]+")).filter(w -> !w.isEmpty()).toArray(String[]::new);
+    }
+}
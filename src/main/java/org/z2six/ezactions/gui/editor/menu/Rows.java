@@ -34,4 +34,12 @@ public interface Rows {
         public ItemRow(MenuItem item) { this.item = item; }
         public MenuItem item() { return item; }
     }
+
+    /** Whole-tree search result; clicking it jumps to the item's page. */
+    final class SearchHitRow implements Rows {
+        private final MenuSearchIndex.Hit hit;
+        public SearchHitRow(MenuSearchIndex.Hit hit) { this.hit = hit; }
+        public MenuSearchIndex.Hit hit() { return hit; }
+        public MenuItem item() { return hit.item(); }
+    }
 }
@@ -0,0 +1,72 @@
+// MainFile: src/main/java/org/z2six/ezactions/handler/ClientCommandHandler.java
+package org.z2six.ezactions.handler;
+
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.neoforged.neoforge.client.event.RegisterClientCommandsEvent;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.helper.ActionDispatcher;
+import org.z2six.ezactions.helper.ClientTaskQueue;
+import org.z2six.ezactions.util.CommandDispatcher;
+
+import java.util.Locale;
+
+/**
+ * Client-only diagnostics command:
+ *   /ezactions stats        - action dispatch latency per type, command backlog, task queue
+ *   /ezactions stats reset  - clear dispatch latency counters
+ *
+ * Never crashes; failures are logged and reported as 0.
+ */
+public final class ClientCommandHandler {
+
+    private ClientCommandHandler() {}
+
+    /** GAME bus: register client-side commands. */
+    public static void onRegisterClientCommands(RegisterClientCommandsEvent e) {
+        try {
+            e.getDispatcher().register(Commands.literal(Constants.MOD_ID)
+                    .then(Commands.literal("stats")
+                            .executes(ClientCommandHandler::printStats)
+                            .then(Commands.literal("reset").executes(ctx -> {
+                                ActionDispatcher.resetStats();
+                                ctx.getSource().sendSuccess(() -> Component.literal("ezactions: dispatch latency stats reset."), false);
+                                return 1;
+                            }))));
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to register client commands: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    private static int printStats(CommandContext<CommandSourceStack> ctx) {
+        try {
+            CommandSourceStack src = ctx.getSource();
+            src.sendSuccess(() -> Component.literal("ezactions diagnostics"), false);
+
+            var lat = ActionDispatcher.latencyStats();
+            if (lat.isEmpty()) {
+                src.sendSuccess(() -> Component.literal("  dispatch latency: no actions run yet"), false);
+            }
+            for (ActionDispatcher.LatencyStats s : lat) {
+                String line = String.format(Locale.ROOT, "  %s dispatch latency: n=%d last=%dus avg=%.0fus max=%dus",
+                        s.type(), s.count(), s.lastMicros(), s.avgMicros(), s.maxMicros());
+                src.sendSuccess(() -> Component.literal(line), false);
+            }
+
+            CommandDispatcher.Stats c = CommandDispatcher.stats();
+            String cmdLine = String.format(Locale.ROOT,
+                    "  commands: sent=%d queued=%d peak=%d coalesced=%d dropped=%d tokens=%.1f/%d @%.2f/s",
+                    c.sent(), c.backlog(), c.peakBacklog(), c.coalesced(), c.dropped(), c.tokens(), c.burst(), c.ratePerSecond());
+            src.sendSuccess(() -> Component.literal(cmdLine), false);
+
+            String taskLine = "  client tasks pending: " + ClientTaskQueue.pending();
+            src.sendSuccess(() -> Component.literal(taskLine), false);
+            return 1;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] /ezactions stats failed: {}", Constants.MOD_NAME, t.toString());
+            return 0;
+        }
+    }
+}
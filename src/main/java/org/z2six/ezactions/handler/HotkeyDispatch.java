@@ -0,0 +1,178 @@
+// MainFile: src/main/java/org/z2six/ezactions/handler/HotkeyDispatch.java
+package org.z2six.ezactions.handler;
+
+import com.mojang.blaze3d.platform.InputConstants;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.options.controls.KeyBindsScreen;
+import net.neoforged.neoforge.client.event.ScreenEvent;
+import net.neoforged.neoforge.client.settings.KeyModifier;
+import org.lwjgl.glfw.GLFW;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.data.menu.KeyChord;
+import org.z2six.ezactions.data.menu.MenuItem;
+import org.z2six.ezactions.data.menu.RadialMenu;
+import org.z2six.ezactions.helper.ActionDispatcher;
+import org.z2six.ezactions.helper.InputInjector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Direct per-item hotkeys.
+ *
+ * A table from {@link KeyChord#packed()} to menu item is built from the whole menu tree once per
+ * model version (see {@link RadialMenu#modelVersion()}); a key press is then a single hash lookup.
+ * Conflicts with vanilla/mod key mappings and between items are detected at build time and logged
+ * (first item wins between items; vanilla mappings still fire, since the key event is not ours).
+ * Closing the Key Binds screen forces a rebuild, so conflicts follow rebound mappings.
+ *
+ * Hold actions started by a hotkey follow the item's own key: they stay held while it is down.
+ *
+ * Only fires during gameplay (no screen open) and ignores events we synthesize ourselves.
+ * Client thread only; never throws.
+ */
+public final class HotkeyDispatch {
+
+    private HotkeyDispatch() {}
+
+    private static final Int2ObjectOpenHashMap<MenuItem> TABLE = new Int2ObjectOpenHashMap<>();
+    private static int builtModel = Integer.MIN_VALUE;
+    private static List<String> conflicts = List.of();
+
+    /** Key event from the input path. Returns true if an item hotkey fired. */
+    public static boolean onKey(Minecraft mc, int glfwKey, int action, int mods) {
+        try {
+            if (action != GLFW.GLFW_PRESS || InputInjector.isInjecting()) return false;
+            if (mc == null || mc.player == null || mc.screen != null) return false;
+            if (KeyChord.isModifierKey(glfwKey)) return false;
+
+            ensureTable(mc);
+            if (TABLE.isEmpty()) return false;
+
+            MenuItem mi = TABLE.get(KeyChord.pack(glfwKey, mods));
+            if (mi == null || !mi.condition().test()) return false;
+
+            Constants.LOG.info("[{}] Hotkey {} -> '{}'", Constants.MOD_NAME, mi.hotkey().displayName(), mi.title());
+            ActionDispatcher.dispatch(mc, mi, System.nanoTime(), () -> isKeyDown(mc, glfwKey));
+            return true;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Hotkey dispatch failed: {}", Constants.MOD_NAME, t.toString());
+            return false;
+        }
+    }
+
+    /** Force a rebuild on the next lookup (e.g. after key bindings changed). */
+    public static void invalidate() {
+        builtModel = Integer.MIN_VALUE;
+    }
+
+    /** GAME bus: vanilla/mod key bindings may have been changed in Options > Controls > Key Binds. */
+    public static void onScreenClosing(ScreenEvent.Closing e) {
+        if (e.getScreen() instanceof KeyBindsScreen) {
+            invalidate();
+            Constants.LOG.debug("[{}] Key binds screen closed; hotkey table will be rebuilt.", Constants.MOD_NAME);
+        }
+    }
+
+    /** Current conflicts, one human-readable line each. */
+    public static List<String> conflicts() {
+        try {
+            ensureTable(Minecraft.getInstance());
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] Hotkey table rebuild failed: {}", Constants.MOD_NAME, t.toString());
+        }
+        return conflicts;
+    }
+
+    /**
+     * Describe what {@code chord} would clash with (key mappings and other items, ignoring the item
+     * {@code selfId}); null when it is free. Used by the editor.
+     */
+    public static String describeConflicts(Minecraft mc, KeyChord chord, String selfId) {
+        if (chord == null) return null;
+        try {
+            List<String> hits = new ArrayList<>();
+            for (KeyMapping km : mappingsOn(mc, chord)) {
+                hits.add("key mapping '" + km.getName() + "'");
+            }
+            ensureTable(mc);
+            MenuItem other = TABLE.get(chord.packed());
+            if (other != null && !other.id().equals(selfId)) hits.add("item '" + other.title() + "'");
+            return hits.isEmpty() ? null : String.join(", ", hits);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    // --- internals -----------------------------------------------------------
+
+    private static void ensureTable(Minecraft mc) {
+        int model = RadialMenu.modelVersion();
+        if (model == builtModel) return;
+
+        TABLE.clear();
+        List<String> found = new ArrayList<>();
+        Deque<List<MenuItem>> todo = new ArrayDeque<>();
+        todo.push(RadialMenu.rootMutable());
+        while (!todo.isEmpty()) {
+            for (MenuItem mi : todo.pop()) {
+                if (mi.isCategory()) {
+                    todo.push(mi.childrenMutable());
+                    continue;
+                }
+                KeyChord chord = mi.hotkey();
+                if (chord == null) continue;
+
+                MenuItem prev = TABLE.putIfAbsent(chord.packed(), mi);
+                if (prev != null) {
+                    found.add(chord.displayName() + ": '" + mi.title() + "' ignored, already used by '" + prev.title() + "'");
+                }
+                for (KeyMapping km : mappingsOn(mc, chord)) {
+                    found.add(chord.displayName() + ": '" + mi.title() + "' also triggers key mapping '" + km.getName() + "'");
+                }
+            }
+        }
+
+        conflicts = List.copyOf(found);
+        builtModel = RadialMenu.modelVersion(); // rootMutable() may have loaded (and bumped) the model
+        for (String c : found) {
+            Constants.LOG.warn("[{}] Hotkey conflict: {}", Constants.MOD_NAME, c);
+        }
+        Constants.LOG.debug("[{}] Hotkey table built: {} hotkeys, {} conflicts.", Constants.MOD_NAME, TABLE.size(), found.size());
+    }
+
+    /** Whether {@code glfwKey} is physically down right now. */
+    private static boolean isKeyDown(Minecraft mc, int glfwKey) {
+        try {
+            long window = (mc == null || mc.getWindow() == null) ? 0L : mc.getWindow().getWindow();
+            if (window == 0L) return false;
+            int state = GLFW.glfwGetKey(window, glfwKey);
+            return state == GLFW.GLFW_PRESS || state == GLFW.GLFW_REPEAT;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** Key mappings that a press of {@code chord} would also activate. */
+    private static List<KeyMapping> mappingsOn(Minecraft mc, KeyChord chord) {
+        List<KeyMapping> out = new ArrayList<>(1);
+        if (mc == null || mc.options == null) return out;
+        for (KeyMapping km : mc.options.keyMappings) {
+            InputConstants.Key k = km.getKey();
+            if (k == null || k.getType() != InputConstants.Type.KEYSYM || k.getValue() != chord.key()) continue;
+            KeyModifier mod = km.getKeyModifier();
+            boolean clash = switch (mod) {
+                case CONTROL -> (chord.mods() & GLFW.GLFW_MOD_CONTROL) != 0;
+                case SHIFT -> (chord.mods() & GLFW.GLFW_MOD_SHIFT) != 0;
+                case ALT -> (chord.mods() & GLFW.GLFW_MOD_ALT) != 0;
+                default -> true; // unmodified mappings fire regardless of held modifiers
+            };
+            if (clash) out.add(km);
+        }
+        return out;
+    }
+}
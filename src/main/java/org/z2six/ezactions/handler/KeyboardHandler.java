@@ -4,28 +4,31 @@ package org.z2six.ezactions.handler;
 import com.mojang.blaze3d.platform.InputConstants;
 import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.Options;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
-import net.neoforged.neoforge.client.settings.IKeyConflictContext;
-import net.neoforged.neoforge.client.settings.KeyConflictContext;
+import net.neoforged.neoforge.client.event.InputEvent;
 import org.lwjgl.glfw.GLFW;
 import org.z2six.ezactions.Constants;
-import org.z2six.ezactions.config.GeneralClientConfig;
+import org.z2six.ezactions.config.ConfigSnapshot;
 import org.z2six.ezactions.data.menu.RadialMenu;
 import org.z2six.ezactions.gui.RadialMenuScreen;
+import org.z2six.ezactions.helper.ClientContext;
 import org.z2six.ezactions.helper.ClientTaskQueue;
-import org.z2six.ezactions.helper.InputInjector;
 import org.z2six.ezactions.helper.KeyboardHandlerHelper;
+import org.z2six.ezactions.util.CommandDispatcher;
 import org.z2six.ezactions.util.CommandSequencer;
+import org.z2six.ezactions.util.CommandValidator;
 import org.z2six.ezactions.util.EZActionsKeybinds;
 
 /**
  * HOLD-to-open radial with optional movement passthrough (toggle in general-client.toml).
  *
- * - If moveWhileRadialOpen is true (default), we:
- *     * push movement keys' conflict context to UNIVERSAL while the radial is open
- *     * mirror physical key state into KeyMapping#setDown during PRE and POST ticks
- * - If false, we do not alter contexts or mirror movement keys.
+ * Hotkey press/release is taken from NeoForge input events (keyboard and mouse), so the radial
+ * opens and executes in the same frame as the physical edge. The per-tick GLFW poll stays as a
+ * fallback for edges an event missed (e.g. a screen consumed the key).
+ *
+ * - If moveWhileRadialOpen is true (default), RadialPassthrough keeps movement (and configured
+ *   extra) mappings live while the radial is open, driven by the same key events.
+ * - If false, we do not alter contexts or pass keys through.
  * - Always restores original contexts on close. Never crashes; logs and skips on errors.
  */
 public final class KeyboardHandler {
@@ -35,15 +38,20 @@ public final class KeyboardHandler {
     private static boolean openHeldPrev = false;
     private static boolean suppressUntilRelease = false;
 
-    private static boolean contextsPushed = false;
-    private static KeyMapping[] trackedKeys = null;
-    private static IKeyConflictContext[] prevContexts = null;
-
     /** Called by RadialMenuScreen when it executes an action on release. */
     public static void suppressReopenUntilReleased() {
         suppressUntilRelease = true;
     }
 
+    /** True while the radial hotkey is physically held right now (polled, not the last edge). */
+    public static boolean isOpenHotkeyDown() {
+        try {
+            return isPhysicallyDown(Minecraft.getInstance(), EZActionsKeybinds.OPEN_MENU);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
     public static void onClientTickPre(ClientTickEvent.Pre e) {
         try {
             ClientTaskQueue.drain();
@@ -52,36 +60,11 @@ public final class KeyboardHandler {
             final Minecraft mc = Minecraft.getInstance();
             if (mc == null || mc.player == null) return;
 
-            boolean heldNow = isPhysicallyDown(mc, EZActionsKeybinds.OPEN_MENU);
-
-            if (heldNow && !openHeldPrev && !suppressUntilRelease) {
-                Constants.LOG.debug("[{}] Radial hotkey pressed; opening at root.", Constants.MOD_NAME);
-                RadialMenu.open();
-            }
-
-            if (!heldNow && openHeldPrev) {
-                if (mc.screen instanceof RadialMenuScreen s) {
-                    s.onHotkeyReleased();
-                }
-                releaseMovementKeys(mc);
-                popMovementKeyContexts(mc);
-                suppressUntilRelease = false;
-            }
-
-            openHeldPrev = heldNow;
+            // Polling fallback: key/mouse events normally apply edges first, making this a no-op.
+            applyHotkeyState(mc, isPhysicallyDown(mc, EZActionsKeybinds.OPEN_MENU));
 
             // Respect toggle: allow movement only if enabled
-            boolean allowMove = GeneralClientConfig.CONFIG.moveWhileRadialOpen();
-            if (mc.screen instanceof RadialMenuScreen) {
-                if (allowMove) {
-                    pushMovementKeyContexts(mc);
-                    tickMovementPassthrough(mc);
-                } else {
-                    if (contextsPushed) popMovementKeyContexts(mc);
-                }
-            } else if (contextsPushed) {
-                popMovementKeyContexts(mc);
-            }
+            syncPassthrough(mc);
 
             if (EZActionsKeybinds.OPEN_EDITOR != null && EZActionsKeybinds.OPEN_EDITOR.consumeClick()) {
                 mc.setScreen(new org.z2six.ezactions.gui.editor.MenuEditorScreen(mc.screen));
@@ -96,140 +79,117 @@ public final class KeyboardHandler {
             final Minecraft mc = Minecraft.getInstance();
             if (mc == null || mc.player == null) return;
 
-            boolean allowMove = GeneralClientConfig.CONFIG.moveWhileRadialOpen();
-            if (allowMove && mc.screen instanceof RadialMenuScreen) {
-                tickMovementPassthrough(mc);
-            }
-
             // NEW: run sequenced multi-commands (cheap no-op when idle)
             CommandSequencer.tickClient();
 
+            // Refill the command token bucket and send whatever the rate allows
+            CommandDispatcher.tickClient();
+
+            // Dimension / game mode / held item change detection for menu conditions
+            ClientContext.tick(mc);
+
+            // New server command tree -> drop parse cache and pre-parse command actions
+            CommandValidator.tick(mc);
+
         } catch (Throwable t) {
             Constants.LOG.warn("[{}] Exception during onClientTickPost: {}", Constants.MOD_NAME, t.toString());
         }
     }
 
-    // --- physical key state helpers ---
+    // --- event-driven hotkey edges ---
 
-    private static boolean isPhysicallyDown(Minecraft mc, KeyMapping mapping) {
-        if (mapping == null || mc == null || mc.getWindow() == null) return false;
-        long window = mc.getWindow().getWindow();
-        if (window == 0L) return false;
+    /** GAME bus: keyboard events (fired after vanilla handled the key). */
+    public static void onKeyInput(InputEvent.Key e) {
+        try {
+            if (e.getAction() == GLFW.GLFW_REPEAT) return;
+            RadialPassthrough.onKey(e.getKey(), e.getAction());
 
-        InputConstants.Key key = mapping.getKey();
-        if (key == null) return false;
+            // Direct item hotkeys (gameplay only; one table lookup)
+            if (HotkeyDispatch.onKey(Minecraft.getInstance(), e.getKey(), e.getAction(), e.getModifiers())) return;
 
-        return switch (key.getType()) {
-            case KEYSYM -> {
-                int code = key.getValue();
-                int state = (code >= 0) ? GLFW.glfwGetKey(window, code) : GLFW.GLFW_RELEASE;
-                yield state == GLFW.GLFW_PRESS || state == GLFW.GLFW_REPEAT;
-            }
-            case MOUSE -> GLFW.glfwGetMouseButton(window, key.getValue()) == GLFW.GLFW_PRESS;
-            default -> false;
-        };
-    }
+            KeyMapping open = EZActionsKeybinds.OPEN_MENU;
+            if (open == null) return;
+            InputConstants.Key key = open.getKey();
+            if (key == null || key.getType() != InputConstants.Type.KEYSYM || key.getValue() != e.getKey()) return;
 
-    // --- movement passthrough ---
+            final Minecraft mc = Minecraft.getInstance();
+            if (mc == null || mc.player == null) return;
+            applyHotkeyState(mc, e.getAction() == GLFW.GLFW_PRESS);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Exception during onKeyInput: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
 
-    private static void tickMovementPassthrough(Minecraft mc) {
+    /** GAME bus: mouse button events, for hotkeys bound to a mouse button. */
+    public static void onMouseButton(InputEvent.MouseButton.Post e) {
         try {
-            final Options o = mc.options;
-            if (o == null) return;
-            mirrorKey(mc, o.keyUp);
-            mirrorKey(mc, o.keyDown);
-            mirrorKey(mc, o.keyLeft);
-            mirrorKey(mc, o.keyRight);
-            mirrorKey(mc, o.keyJump);
-            mirrorKey(mc, o.keySprint);
-            mirrorKey(mc, o.keyShift);
+            RadialPassthrough.onMouseButton(e.getButton(), e.getAction());
+
+            KeyMapping open = EZActionsKeybinds.OPEN_MENU;
+            if (open == null) return;
+            InputConstants.Key key = open.getKey();
+            if (key == null || key.getType() != InputConstants.Type.MOUSE || key.getValue() != e.getButton()) return;
+
+            final Minecraft mc = Minecraft.getInstance();
+            if (mc == null || mc.player == null) return;
+            applyHotkeyState(mc, e.getAction() == GLFW.GLFW_PRESS);
         } catch (Throwable t) {
-            Constants.LOG.warn("[{}] Movement passthrough tick failed: {}", Constants.MOD_NAME, t.toString());
+            Constants.LOG.warn("[{}] Exception during onMouseButton: {}", Constants.MOD_NAME, t.toString());
         }
     }
 
-    private static void mirrorKey(Minecraft mc, KeyMapping km) {
-        if (km == null) return;
-        InputConstants.Key k = km.getKey();
-        if (k == null) { InputInjector.setKeyPressed(km, false); return; }
-        long window = (mc.getWindow() != null) ? mc.getWindow().getWindow() : 0L;
-        if (window == 0L) { InputInjector.setKeyPressed(km, false); return; }
+    /**
+     * Single place where hotkey edges are applied; called from input events and the tick poll.
+     * Repeated calls with an unchanged state are no-ops.
+     */
+    private static void applyHotkeyState(Minecraft mc, boolean heldNow) {
+        if (heldNow == openHeldPrev) return;
+        openHeldPrev = heldNow;
 
-        boolean down = switch (k.getType()) {
-            case KEYSYM -> {
-                int state = GLFW.glfwGetKey(window, k.getValue());
-                yield (state == GLFW.GLFW_PRESS) || (state == GLFW.GLFW_REPEAT);
+        if (heldNow) {
+            if (!suppressUntilRelease) {
+                Constants.LOG.debug("[{}] Radial hotkey pressed; opening at root.", Constants.MOD_NAME);
+                RadialMenu.open();
+                syncPassthrough(mc);
             }
-            case MOUSE -> GLFW.glfwGetMouseButton(window, k.getValue()) == GLFW.GLFW_PRESS;
-            default -> false;
-        };
-        InputInjector.setKeyPressed(km, down);
-    }
+            return;
+        }
 
-    private static void releaseMovementKeys(Minecraft mc) {
-        try {
-            final Options o = mc.options;
-            if (o == null) return;
-            InputInjector.setKeyPressed(o.keyUp, false);
-            InputInjector.setKeyPressed(o.keyDown, false);
-            InputInjector.setKeyPressed(o.keyLeft, false);
-            InputInjector.setKeyPressed(o.keyRight, false);
-            InputInjector.setKeyPressed(o.keyJump, false);
-            InputInjector.setKeyPressed(o.keySprint, false);
-            InputInjector.setKeyPressed(o.keyShift, false);
-        } catch (Throwable ignored) {}
+        if (mc.screen instanceof RadialMenuScreen s) {
+            s.onHotkeyReleased();
+        }
+        RadialPassthrough.deactivate();
+        suppressUntilRelease = false;
     }
 
-    // --- conflict context push/pop ---
-
-    private static void pushMovementKeyContexts(Minecraft mc) {
-        if (contextsPushed) return;
-        try {
-            final Options o = mc.options;
-            if (o == null) return;
-
-            trackedKeys = new KeyMapping[] { o.keyUp, o.keyDown, o.keyLeft, o.keyRight, o.keyJump, o.keySprint, o.keyShift };
-            prevContexts = new IKeyConflictContext[trackedKeys.length];
-
-            for (int i = 0; i < trackedKeys.length; i++) {
-                KeyMapping km = trackedKeys[i];
-                if (km == null) continue;
-                try {
-                    prevContexts[i] = km.getKeyConflictContext();
-                    km.setKeyConflictContext(KeyConflictContext.UNIVERSAL);
-                } catch (Throwable perKey) {
-                    Constants.LOG.debug("[{}] Could not push context for movement key {}: {}", Constants.MOD_NAME, i, perKey.toString());
-                }
-            }
-            contextsPushed = true;
-            Constants.LOG.debug("[{}] Movement key contexts pushed (UNIVERSAL).", Constants.MOD_NAME);
-        } catch (Throwable t) {
-            Constants.LOG.warn("[{}] pushMovementKeyContexts failed: {}", Constants.MOD_NAME, t.toString());
+    /** Passthrough is live exactly while the radial is showing and moveWhileRadialOpen is on. */
+    private static void syncPassthrough(Minecraft mc) {
+        boolean want = mc.screen instanceof RadialMenuScreen && ConfigSnapshot.get().moveWhileRadialOpen;
+        if (want) {
+            RadialPassthrough.activate(mc);
+        } else {
+            RadialPassthrough.deactivate();
         }
     }
 
-    private static void popMovementKeyContexts(Minecraft mc) {
-        if (!contextsPushed) return;
-        try {
-            if (trackedKeys != null && prevContexts != null) {
-                for (int i = 0; i < trackedKeys.length; i++) {
-                    KeyMapping km = trackedKeys[i];
-                    IKeyConflictContext prev = prevContexts[i];
-                    if (km == null || prev == null) continue;
-                    try {
-                        km.setKeyConflictContext(prev);
-                    } catch (Throwable perKey) {
-                        Constants.LOG.debug("[{}] Could not pop context for movement key {}: {}", Constants.MOD_NAME, i, perKey.toString());
-                    }
-                }
+    // --- physical key state helpers ---
+
+    private static boolean isPhysicallyDown(Minecraft mc, KeyMapping mapping) {
+        if (mapping == null || mc == null || mc.getWindow() == null) return false;
+        long window = mc.getWindow().getWindow();
+        if (window == 0L) return false;
+
+        InputConstants.Key key = mapping.getKey();
+        if (key == null) return false;
+
+        return switch (key.getType()) {
+            case KEYSYM -> {
+                int code = key.getValue();
+                int state = (code >= 0) ? GLFW.glfwGetKey(window, code) : GLFW.GLFW_RELEASE;
+                yield state == GLFW.GLFW_PRESS || state == GLFW.GLFW_REPEAT;
             }
-        } catch (Throwable t) {
-            Constants.LOG.warn("[{}] popMovementKeyContexts failed: {}", Constants.MOD_NAME, t.toString());
-        } finally {
-            contextsPushed = false;
-            trackedKeys = null;
-            prevContexts = null;
-            Constants.LOG.debug("[{}] Movement key contexts restored.", Constants.MOD_NAME);
-        }
+            case MOUSE -> GLFW.glfwGetMouseButton(window, key.getValue()) == GLFW.GLFW_PRESS;
+            default -> false;
+        };
     }
 }
@@ -0,0 +1,223 @@
+// MainFile: src/main/java/org/z2six/ezactions/handler/RadialPassthrough.java
+package org.z2six.ezactions.handler;
+
+import com.mojang.blaze3d.platform.InputConstants;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.Options;
+import net.minecraft.client.ToggleKeyMapping;
+import net.neoforged.neoforge.client.settings.IKeyConflictContext;
+import net.neoforged.neoforge.client.settings.KeyConflictContext;
+import org.lwjgl.glfw.GLFW;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.GeneralClientConfig;
+import org.z2six.ezactions.mixin.KeyMappingAccessor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key passthrough while the radial is open (movement plus configured extra mappings).
+ *
+ * A lookup table from GLFW key / mouse button to the mappings bound to it is built once and reused
+ * until bindings or the extra-mappings config change. While active, the physical state of each
+ * tracked key / mouse button is kept here, and mappings are driven only on real transitions of it
+ * (mirroring vanilla KeyMapping.set: setDown(true) + one click per press, setDown(false) on release).
+ * The mapping's own isDown() is never used to detect edges: for a ToggleKeyMapping in toggle mode it
+ * is the toggled state, and setDown(true) flips it, so toggle-sprint/sneak switch on and off as usual.
+ *
+ * Physical state is read from GLFW exactly once, on activation, to pick up keys that were already
+ * held when the radial opened. That resync does not press mappings in toggle mode (opening a screen
+ * leaves their toggled state alone, and pressing would flip it) nor mappings already down.
+ *
+ * Conflict contexts of tracked mappings are pushed to UNIVERSAL while active and restored on deactivate.
+ * Client thread only; never throws.
+ */
+public final class RadialPassthrough {
+
+    private RadialPassthrough() {}
+
+    private static final KeyMapping[] NONE = new KeyMapping[0];
+
+    // Precomputed table (rebuilt only when the signature changes)
+    private static KeyMapping[] tracked = NONE;
+    private static final Int2ObjectOpenHashMap<KeyMapping[]> BY_KEY = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<KeyMapping[]> BY_MOUSE = new Int2ObjectOpenHashMap<>();
+    private static int tableSignature = 0;
+    private static boolean tableBuilt = false;
+
+    // Active state
+    private static boolean active = false;
+    private static IKeyConflictContext[] prevContexts = null;
+    // Physically held keys / mouse buttons (tracked ones only), as seen by this class
+    private static final IntOpenHashSet HELD_KEYS = new IntOpenHashSet();
+    private static final IntOpenHashSet HELD_MOUSE = new IntOpenHashSet();
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    /** Start passthrough (idempotent). Pushes contexts and syncs currently held keys once. */
+    public static void activate(Minecraft mc) {
+        if (active || mc == null || mc.options == null) return;
+        try {
+            ensureTable(mc.options);
+
+            prevContexts = new IKeyConflictContext[tracked.length];
+            for (int i = 0; i < tracked.length; i++) {
+                try {
+                    prevContexts[i] = tracked[i].getKeyConflictContext();
+                    tracked[i].setKeyConflictContext(KeyConflictContext.UNIVERSAL);
+                } catch (Throwable perKey) {
+                    Constants.LOG.debug("[{}] Could not push context for '{}': {}", Constants.MOD_NAME, tracked[i].getName(), perKey.toString());
+                }
+            }
+            active = true;
+
+            // One-time sync: opening a screen released all mappings; restore what is physically held.
+            HELD_KEYS.clear();
+            HELD_MOUSE.clear();
+            long window = (mc.getWindow() != null) ? mc.getWindow().getWindow() : 0L;
+            if (window != 0L) {
+                for (KeyMapping km : tracked) {
+                    InputConstants.Key k = km.getKey();
+                    if (!isPhysicallyDown(window, k)) continue;
+                    if (k.getType() == InputConstants.Type.MOUSE) HELD_MOUSE.add(k.getValue());
+                    else HELD_KEYS.add(k.getValue());
+                    if (!km.isDown() && !isToggleMode(mc.options, km)) km.setDown(true);
+                }
+            }
+            Constants.LOG.debug("[{}] Radial passthrough active ({} mappings).", Constants.MOD_NAME, tracked.length);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] RadialPassthrough.activate failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** Stop passthrough (idempotent). Releases tracked mappings and restores their contexts. */
+    public static void deactivate() {
+        if (!active) return;
+        try {
+            for (int i = 0; i < tracked.length; i++) {
+                KeyMapping km = tracked[i];
+                try { km.setDown(false); } catch (Throwable ignored) {}
+                IKeyConflictContext prev = (prevContexts != null && i < prevContexts.length) ? prevContexts[i] : null;
+                if (prev == null) continue;
+                try {
+                    km.setKeyConflictContext(prev);
+                } catch (Throwable perKey) {
+                    Constants.LOG.debug("[{}] Could not pop context for '{}': {}", Constants.MOD_NAME, km.getName(), perKey.toString());
+                }
+            }
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] RadialPassthrough.deactivate failed: {}", Constants.MOD_NAME, t.toString());
+        } finally {
+            active = false;
+            prevContexts = null;
+            HELD_KEYS.clear();
+            HELD_MOUSE.clear();
+            Constants.LOG.debug("[{}] Radial passthrough stopped; contexts restored.", Constants.MOD_NAME);
+        }
+    }
+
+    /** Keyboard transition (GLFW key + action). Ignores repeats. */
+    public static void onKey(int glfwKey, int action) {
+        if (active) apply(BY_KEY.get(glfwKey), HELD_KEYS, glfwKey, action);
+    }
+
+    /** Mouse button transition. */
+    public static void onMouseButton(int button, int action) {
+        if (active) apply(BY_MOUSE.get(button), HELD_MOUSE, button, action);
+    }
+
+    // --- internals -----------------------------------------------------------
+
+    /** Drive {@code maps} on a physical transition of {@code code}; repeats and non-edges are ignored. */
+    private static void apply(KeyMapping[] maps, IntOpenHashSet held, int code, int action) {
+        if (maps == null || action == GLFW.GLFW_REPEAT) return;
+        boolean down = action == GLFW.GLFW_PRESS;
+        if (down ? !held.add(code) : !held.remove(code)) return; // no physical change
+        for (KeyMapping km : maps) {
+            try {
+                km.setDown(down);
+                if (down) {
+                    KeyMappingAccessor acc = (KeyMappingAccessor) (Object) km;
+                    acc.ezactions$setClickCount(acc.ezactions$getClickCount() + 1);
+                }
+            } catch (Throwable t) {
+                Constants.LOG.debug("[{}] Passthrough apply failed for '{}': {}", Constants.MOD_NAME, km.getName(), t.toString());
+            }
+        }
+    }
+
+    private static void ensureTable(Options o) {
+        List<? extends String> extras = GeneralClientConfig.CONFIG.passthroughExtraMappings();
+        int sig = extras.hashCode();
+        for (KeyMapping km : o.keyMappings) {
+            InputConstants.Key k = km.getKey();
+            sig = 31 * sig + (k == null ? 0 : k.hashCode());
+        }
+        if (tableBuilt && sig == tableSignature) return;
+
+        ArrayList<KeyMapping> list = new ArrayList<>(Arrays.asList(
+                o.keyUp, o.keyDown, o.keyLeft, o.keyRight, o.keyJump, o.keySprint, o.keyShift));
+        for (String pattern : extras) {
+            if (pattern == null || pattern.isBlank()) continue;
+            String p = pattern.trim();
+            boolean prefix = p.endsWith("*");
+            if (prefix) p = p.substring(0, p.length() - 1);
+            for (KeyMapping km : o.keyMappings) {
+                String name = km.getName();
+                if ((prefix ? name.startsWith(p) : name.equals(p)) && !list.contains(km)) list.add(km);
+            }
+        }
+        list.removeIf(km -> km == null);
+
+        BY_KEY.clear();
+        BY_MOUSE.clear();
+        for (KeyMapping km : list) {
+            InputConstants.Key k = km.getKey();
+            if (k == null || k.getValue() < 0) continue;
+            Int2ObjectOpenHashMap<KeyMapping[]> target = switch (k.getType()) {
+                case KEYSYM -> BY_KEY;
+                case MOUSE -> BY_MOUSE;
+                default -> null;
+            };
+            if (target == null) continue;
+            KeyMapping[] prev = target.get(k.getValue());
+            KeyMapping[] next = (prev == null) ? new KeyMapping[1] : Arrays.copyOf(prev, prev.length + 1);
+            next[next.length - 1] = km;
+            target.put(k.getValue(), next);
+        }
+
+        tracked = list.toArray(NONE);
+        tableSignature = sig;
+        tableBuilt = true;
+        Constants.LOG.debug("[{}] Passthrough table built: {} mappings, {} keys, {} mouse buttons.",
+                Constants.MOD_NAME, tracked.length, BY_KEY.size(), BY_MOUSE.size());
+    }
+
+    /** Whether {@code km} toggles on press (toggle sprint/sneak, or an unknown mod toggle mapping). */
+    private static boolean isToggleMode(Options o, KeyMapping km) {
+        if (!(km instanceof ToggleKeyMapping)) return false;
+        try {
+            if (km == o.keySprint) return o.toggleSprint().get();
+            if (km == o.keyShift) return o.toggleCrouch().get();
+        } catch (Throwable ignored) {}
+        return true; // its toggle supplier is private; assume toggle so we never flip it by accident
+    }
+
+    private static boolean isPhysicallyDown(long window, InputConstants.Key k) {
+        if (k == null || k.getValue() < 0) return false;
+        return switch (k.getType()) {
+            case KEYSYM -> {
+                int state = GLFW.glfwGetKey(window, k.getValue());
+                yield state == GLFW.GLFW_PRESS || state == GLFW.GLFW_REPEAT;
+            }
+            case MOUSE -> GLFW.glfwGetMouseButton(window, k.getValue()) == GLFW.GLFW_PRESS;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,106 @@
+// MainFile: src/main/java/org/z2six/ezactions/helper/ActionDispatcher.java
+package org.z2six.ezactions.helper;
+
+import net.minecraft.client.Minecraft;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.data.click.ClickActionType;
+import org.z2six.ezactions.data.click.IClickAction;
+import org.z2six.ezactions.data.menu.MenuItem;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Single-hop action execution for the radial.
+ *
+ * The radial closes its screen first and then calls {@link #dispatch}, which runs the action right
+ * away when we are on the client thread (the normal case: input callbacks and client ticks).
+ * Only off-thread callers are bounced through {@code mc.execute}.
+ *
+ * Per action type we record dispatch latency: from the trigger (hotkey release / click) to the moment
+ * the action's execute() returned. That is when a key was injected or a command handed to
+ * CommandDispatcher; commands the rate limiter holds back and TICK-delivered keys take effect later,
+ * so this is not end-to-end time. See {@link #latencyStats()}.
+ */
+public final class ActionDispatcher {
+
+    private ActionDispatcher() {}
+
+    /** Dispatch latency summary for one action type (microseconds; trigger to execute() return). */
+    public record LatencyStats(ClickActionType type, long count, long lastMicros, double avgMicros, long maxMicros) {}
+
+    private static final class Acc {
+        long count;
+        long lastNanos;
+        long totalNanos;
+        long maxNanos;
+    }
+
+    private static final Map<ClickActionType, Acc> LATENCY = new EnumMap<>(ClickActionType.class);
+
+    /**
+     * Execute {@code item}'s action. {@code triggerNanos} is the System.nanoTime() of the user input
+     * that triggered it (or 0 to skip latency accounting). Returns the action's result, or true when
+     * the execution had to be deferred to the client thread.
+     */
+    public static boolean dispatch(Minecraft mc, MenuItem item, long triggerNanos) {
+        return dispatch(mc, item, triggerNanos, null);
+    }
+
+    /**
+     * As {@link #dispatch(Minecraft, MenuItem, long)}, with {@code triggerHeld} telling hold actions
+     * whether the triggering key is still down (null when the trigger is already over).
+     */
+    public static boolean dispatch(Minecraft mc, MenuItem item, long triggerNanos, BooleanSupplier triggerHeld) {
+        if (mc == null || item == null || item.action() == null) return false;
+        if (!mc.isSameThread()) {
+            mc.execute(() -> dispatch(mc, item, triggerNanos, triggerHeld));
+            return true;
+        }
+        return run(mc, item, triggerNanos, triggerHeld);
+    }
+
+    private static boolean run(Minecraft mc, MenuItem item, long triggerNanos, BooleanSupplier triggerHeld) {
+        final IClickAction action = item.action();
+        try {
+            boolean ok = action.execute(mc, triggerHeld);
+            if (triggerNanos > 0L) record(action.getType(), System.nanoTime() - triggerNanos);
+            if (!ok) {
+                Constants.LOG.info("[{}] Radial action returned false for '{}'", Constants.MOD_NAME, item.id());
+            }
+            return ok;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Radial execution error for '{}': {}", Constants.MOD_NAME, item.id(), t.toString());
+            return false;
+        }
+    }
+
+    private static void record(ClickActionType type, long nanos) {
+        if (type == null || nanos < 0L) return;
+        Acc a = LATENCY.computeIfAbsent(type, k -> new Acc());
+        a.count++;
+        a.lastNanos = nanos;
+        a.totalNanos += nanos;
+        if (nanos > a.maxNanos) a.maxNanos = nanos;
+        Constants.LOG.debug("[{}] {} action dispatched {} us after trigger.", Constants.MOD_NAME, type, nanos / 1000L);
+    }
+
+    /** Snapshot of recorded dispatch latencies, one entry per action type that has run. */
+    public static List<LatencyStats> latencyStats() {
+        List<LatencyStats> out = new ArrayList<>(LATENCY.size());
+        for (Map.Entry<ClickActionType, Acc> e : LATENCY.entrySet()) {
+            Acc a = e.getValue();
+            double avg = a.count == 0 ? 0.0 : (a.totalNanos / (double) a.count) / 1000.0;
+            out.add(new LatencyStats(e.getKey(), a.count, a.lastNanos / 1000L, avg, a.maxNanos / 1000L));
+        }
+        return out;
+    }
+
+    /** Forget recorded latencies. */
+    public static void resetStats() {
+        LATENCY.clear();
+    }
+}
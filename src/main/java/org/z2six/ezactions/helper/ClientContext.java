@@ -0,0 +1,90 @@
+// MainFile: src/main/java/org/z2six/ezactions/helper/ClientContext.java
+package org.z2six.ezactions.helper;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.Level;
+import org.z2six.ezactions.Constants;
+
+/**
+ * The slice of client state that menu conditions look at: dimension, game mode, held items.
+ *
+ * {@link #tick} runs once per client tick and only compares references (dimension key, game type,
+ * held Item objects). When one of them differs, the string forms are refreshed and {@link #version()}
+ * is bumped; consumers cache their results against that version instead of re-evaluating per frame.
+ *
+ * Client thread only; never throws.
+ */
+public final class ClientContext {
+
+    private ClientContext() {}
+
+    private static int version = 0;
+
+    // Raw references used for change detection
+    private static ResourceKey<Level> lastDim = null;
+    private static GameType lastMode = null;
+    private static Item lastMain = null;
+    private static Item lastOff = null;
+
+    // Derived values read by MenuCondition
+    private static String dimension = "";
+    private static int gameModeBit = 0;
+    private static String mainHand = "";
+    private static String offHand = "";
+
+    /** Client tick: detect changes and bump the version if any. Cheap when nothing changed. */
+    public static void tick(Minecraft mc) {
+        try {
+            if (mc == null) return;
+            ResourceKey<Level> dim = (mc.level == null) ? null : mc.level.dimension();
+            GameType mode = (mc.gameMode == null) ? null : mc.gameMode.getPlayerMode();
+            Item main = (mc.player == null) ? null : mc.player.getMainHandItem().getItem();
+            Item off = (mc.player == null) ? null : mc.player.getOffhandItem().getItem();
+
+            if (dim == lastDim && mode == lastMode && main == lastMain && off == lastOff) return;
+
+            lastDim = dim;
+            lastMode = mode;
+            lastMain = main;
+            lastOff = off;
+
+            dimension = (dim == null) ? "" : dim.location().toString();
+            gameModeBit = (mode == null) ? 0 : (1 << mode.getId());
+            mainHand = itemId(main);
+            offHand = itemId(off);
+            version++;
+            Constants.LOG.debug("[{}] Client context changed (v{}): dim={}, mode={}, main={}, off={}",
+                    Constants.MOD_NAME, version, dimension, mode, mainHand, offHand);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] ClientContext.tick failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** Bumped whenever any tracked value changes. */
+    public static int version() { return version; }
+
+    /** Dimension id, e.g. "minecraft:the_nether"; empty when not in a world. */
+    public static String dimension() { return dimension; }
+
+    /** Single bit {@code 1 << GameType.getId()}; 0 when unknown. */
+    public static int gameModeBit() { return gameModeBit; }
+
+    /** Main-hand item id, e.g. "minecraft:bow"; "minecraft:air" when empty. */
+    public static String mainHand() { return mainHand; }
+
+    /** Off-hand item id. */
+    public static String offHand() { return offHand; }
+
+    private static String itemId(Item item) {
+        if (item == null) return "";
+        try {
+            return BuiltInRegistries.ITEM.getKey(item).toString();
+        } catch (Throwable t) {
+            return "";
+        }
+    }
+}
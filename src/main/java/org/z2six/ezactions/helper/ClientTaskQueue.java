@@ -4,35 +4,105 @@ package org.z2six.ezactions.helper;
 import org.z2six.ezactions.Constants;
 
 import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Minimal client-thread task queue: post a Runnable now, execute on the next client tick.
+ * Client-thread task queue: post a Runnable from any thread, execute it on a later client tick.
  * Used to run actions AFTER we close the radial screen, so input injection hits gameplay.
+ *
+ * Producers push onto a lock-free MPSC inbox; only the client thread (in {@link #drain()}) consumes.
+ * Tasks posted with {@link #post(Runnable)} run on the next drain; {@link #postDelayed(Runnable, int)}
+ * runs them N ticks later. Tasks posted while a drain is running always wait for the next tick,
+ * so "press now, release next tick" pairs keep their one-tick gap.
+ *
+ * Each drain stops once its time budget is spent (at least one task always runs); leftovers keep
+ * their order and run first on the next tick.
  */
 public final class ClientTaskQueue {
 
-    private static final Deque<Runnable> QUEUE = new ArrayDeque<>();
+    /** Per-tick budget for running tasks (2 ms). */
+    private static final long TICK_BUDGET_NANOS = 2_000_000L;
+
+    /** Lock-free inbox; any thread may offer, only the client thread polls. */
+    private static final ConcurrentLinkedQueue<Entry> INBOX = new ConcurrentLinkedQueue<>();
+
+    // Client-thread-only state below.
+    private static final ArrayDeque<Runnable> READY = new ArrayDeque<>();
+    private static final PriorityQueue<Entry> DELAYED = new PriorityQueue<>(
+            (a, b) -> a.dueTick != b.dueTick ? Long.compare(a.dueTick, b.dueTick) : Long.compare(a.seq, b.seq));
+
+    private static long tick = 0L;
+    private static long seq = 0L;
+
+    /** A posted task; delay is relative until the client thread turns it into an absolute due tick. */
+    private static final class Entry {
+        final Runnable task;
+        final int delayTicks;
+        long dueTick;
+        long seq;
+
+        Entry(Runnable task, int delayTicks) {
+            this.task = task;
+            this.delayTicks = delayTicks;
+        }
+    }
 
     private ClientTaskQueue() {}
 
+    /** Run {@code r} on the next client tick. Safe from any thread. */
     public static void post(Runnable r) {
         if (r == null) return;
-        synchronized (QUEUE) {
-            QUEUE.addLast(r);
-        }
+        INBOX.offer(new Entry(r, 0));
+    }
+
+    /**
+     * Run {@code r} after {@code ticks} further client ticks (0 or 1 = next tick). Safe from any thread.
+     */
+    public static void postDelayed(Runnable r, int ticks) {
+        if (r == null) return;
+        INBOX.offer(new Entry(r, Math.max(0, ticks - 1)));
+    }
+
+    /** Tasks not yet run (inbox size is approximate while producers are active). */
+    public static int pending() {
+        return INBOX.size() + READY.size() + DELAYED.size();
     }
 
-    /** Called from client tick to drain tasks safely. */
+    /** Called once per client tick (client thread) to run due tasks within the budget. */
     public static void drain() {
-        Deque<Runnable> run;
-        synchronized (QUEUE) {
-            if (QUEUE.isEmpty()) return;
-            run = new ArrayDeque<>(QUEUE);
-            QUEUE.clear();
+        tick++;
+
+        // 1) Move everything posted so far out of the inbox (later posts wait for the next tick).
+        Entry e;
+        while ((e = INBOX.poll()) != null) {
+            if (e.delayTicks == 0) {
+                READY.addLast(e.task);
+            } else {
+                e.dueTick = tick + e.delayTicks;
+                e.seq = seq++;
+                DELAYED.add(e);
+            }
         }
-        while (!run.isEmpty()) {
-            Runnable r = run.removeFirst();
+
+        // 2) Promote delayed tasks that are due, in due/post order.
+        while (!DELAYED.isEmpty() && DELAYED.peek().dueTick <= tick) {
+            READY.addLast(DELAYED.poll().task);
+        }
+
+        if (READY.isEmpty()) return;
+
+        // 3) Run within the budget; leftovers stay at the head for the next tick.
+        final long start = System.nanoTime();
+        int ran = 0;
+        while (!READY.isEmpty()) {
+            if (ran > 0 && System.nanoTime() - start >= TICK_BUDGET_NANOS) {
+                Constants.LOG.debug("[{}] ClientTaskQueue: budget spent after {} task(s), {} deferred.",
+                        Constants.MOD_NAME, ran, READY.size());
+                break;
+            }
+            Runnable r = READY.pollFirst();
+            ran++;
             try {
                 r.run();
             } catch (Throwable t) {
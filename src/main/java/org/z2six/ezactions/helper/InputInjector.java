@@ -43,6 +43,24 @@ public final class InputInjector {
 
     private InputInjector() {}
 
+    // >0 while we are feeding a synthetic key event through KeyboardHandler.keyPress
+    private static int injectDepth = 0;
+
+    /** True while a synthetic key event from this class is being processed (input listeners should ignore it). */
+    public static boolean isInjecting() {
+        return injectDepth > 0;
+    }
+
+    /** Feed one synthetic key event to vanilla, marking it as ours for the duration of the call. */
+    private static void synthKey(KeyboardHandlerAccessor acc, long window, int key, int scancode, int action, int mods) {
+        injectDepth++;
+        try {
+            acc.ezactions$keyPress(window, key, scancode, action, mods);
+        } finally {
+            injectDepth--;
+        }
+    }
+
     /** string-based entry (e.g. "key.inventory" or localized "Inventory") */
     public static boolean deliver(String mappingName, boolean toggle, DeliveryMode mode) {
         try {
@@ -186,6 +204,20 @@ public final class InputInjector {
         try { mapping.setDown(down); } catch (Throwable ignored) {}
     }
 
+    /** Resolve a mapping by translation key or localized label (exact, localized, contains); null if none. */
+    @Nullable
+    public static KeyMapping resolveMapping(String nameOrKey) {
+        try {
+            final Minecraft mc = Minecraft.getInstance();
+            if (mc == null || mc.options == null) return null;
+            Resolution res = resolveMappingByName(mc.options, nameOrKey);
+            logResolved(res);
+            return res.mapping;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
     /** Convenience wrapper: resolve by name then set pressed state. */
     public static void setMappingPressed(String nameOrKey, boolean down) {
         try {
@@ -277,12 +309,12 @@ public final class InputInjector {
 
             // Press main key now
             KeyboardHandlerAccessor acc = (KeyboardHandlerAccessor)(Object) mc.keyboardHandler;
-            acc.ezactions$keyPress(window, glfwKey, glfwScanCode, GLFW.GLFW_PRESS, modsMask);
+            synthKey(acc, window, glfwKey, glfwScanCode, GLFW.GLFW_PRESS, modsMask);
 
             // Release main key & any modifiers we pressed, next tick
             ClientTaskQueue.post(() -> {
                 try {
-                    acc.ezactions$keyPress(window, glfwKey, glfwScanCode, GLFW.GLFW_RELEASE, modsMask);
+                    synthKey(acc, window, glfwKey, glfwScanCode, GLFW.GLFW_RELEASE, modsMask);
                 } catch (Throwable t) {
                     Constants.LOG.warn("[{}] INPUT+MODS main release failed: {}", Constants.MOD_NAME, t.toString());
                 }
@@ -290,7 +322,7 @@ public final class InputInjector {
                 for (int modKey : pressedByUs) {
                     try {
                         int modScan = safeScan(modKey);
-                        acc.ezactions$keyPress(window, modKey, modScan, GLFW.GLFW_RELEASE, 0);
+                        synthKey(acc, window, modKey, modScan, GLFW.GLFW_RELEASE, 0);
                     } catch (Throwable t) {
                         Constants.LOG.warn("[{}] INPUT+MODS mod release failed (modKey={}): {}", Constants.MOD_NAME, modKey, t.toString());
                     }
@@ -308,7 +340,7 @@ public final class InputInjector {
         try {
             int modScan = safeScan(modKey);
             KeyboardHandlerAccessor acc = (KeyboardHandlerAccessor)(Object) Minecraft.getInstance().keyboardHandler;
-            acc.ezactions$keyPress(window, modKey, modScan, GLFW.GLFW_PRESS, 0);
+            synthKey(acc, window, modKey, modScan, GLFW.GLFW_PRESS, 0);
             pressedByUs.add(modKey);
             Constants.LOG.debug("[{}] INPUT+MODS: pressed modifier {}", Constants.MOD_NAME, modKey);
         } catch (Throwable t) {
@@ -367,8 +399,8 @@ public final class InputInjector {
 
             boolean pressed = deliverInputWithModifiers(mc, temp.glfwKey, temp.scancode, req);
 
-            // Restore on next tick
-            ClientTaskQueue.post(() -> {
+            // Restore two ticks later: the release above runs next tick and must still see the temp key
+            ClientTaskQueue.postDelayed(() -> {
                 try {
                     mapping.setKey(oldKey == null ? InputConstants.UNKNOWN : oldKey);
                     KeyMapping.resetMapping();
@@ -379,7 +411,7 @@ public final class InputInjector {
                     Constants.LOG.warn("[{}] Shim: failed to restore original key for '{}': {}",
                             Constants.MOD_NAME, safeName(mapping), t.toString());
                 }
-            });
+            }, 2);
 
             return pressed;
         } catch (Throwable t) {
@@ -612,12 +644,12 @@ public final class InputInjector {
             KeyboardHandlerAccessor acc = (KeyboardHandlerAccessor)(Object) mc.keyboardHandler;
 
             // press now
-            acc.ezactions$keyPress(window, glfwKey, glfwScanCode, GLFW.GLFW_PRESS, glfwMods);
+            synthKey(acc, window, glfwKey, glfwScanCode, GLFW.GLFW_PRESS, glfwMods);
 
             // release next tick
             ClientTaskQueue.post(() -> {
                 try {
-                    acc.ezactions$keyPress(window, glfwKey, glfwScanCode, GLFW.GLFW_RELEASE, glfwMods);
+                    synthKey(acc, window, glfwKey, glfwScanCode, GLFW.GLFW_RELEASE, glfwMods);
                 } catch (Throwable t) {
                     Constants.LOG.warn("[{}] INPUT release failed: {}", Constants.MOD_NAME, t.toString());
                 }
@@ -5,98 +5,214 @@ import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
 import org.jetbrains.annotations.Nullable;
 import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.mixin.KeyMappingAccessor;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 
 /**
- * Legacy tick-based key "press" simulation.
+ * Tick-based key "press" simulation.
  * This is what makes unassigned/purged keybinds still triggerable.
  *
- * Diagnostics added:
- * - When we simulate the "press", we log whether consumeClick() returned true.
- *   This tells us if a click was registered in vanilla's counter at that moment.
- * - We DO NOT change behavior (we already called consumeClick() before); just log the boolean.
+ * Every request is a small job on a tick-accurate scheduler driven by {@link #onClientTick()}:
+ * - one-tick tap (legacy behavior, used by TICK delivery)
+ * - hold for N ticks
+ * - hold while a condition holds (e.g. radial hotkey still down), at least one tick
+ * - repeat: press every N ticks, M times (each press held for one tick)
+ *
+ * Timings are absolute tick numbers computed when the job starts, so they do not drift.
+ * While held we re-assert setDown(true) every tick, because opening a screen calls
+ * KeyMapping.releaseAll(). Non-legacy presses also bump the mapping's click counter so
+ * consumeClick()-driven handlers (attack, use, hotbar) see one click per press.
+ *
+ * Diagnostics:
+ * - For legacy taps we log whether consumeClick() returned true at press time.
  */
 public final class KeyboardHandlerHelper {
 
-    /** Keys scheduled for a one-tick tap. */
+    /** Requests waiting to start on the next tick. */
     private static final Deque<TapRequest> QUEUED_TAPS = new ArrayDeque<>();
 
-    /** Keys currently being held down by our helper; we auto-release next tick. */
-    private static final Deque<KeyMapping> HELD_THIS_TICK = new ArrayDeque<>();
+    /** Jobs currently running (pressed, or waiting between repeats). */
+    private static final ArrayList<Job> ACTIVE = new ArrayList<>();
+
+    /** Client tick counter (advanced once per onClientTick). */
+    private static long tick = 0L;
 
     private KeyboardHandlerHelper() {}
 
     /** Enqueue a one-tick tap for the given mapping (safe when unbound). */
     public static void enqueueTap(KeyMapping mapping) {
-        if (mapping == null) {
-            Constants.LOG.warn("[{}] enqueueTap called with null mapping; skipping.", Constants.MOD_NAME);
-            return;
-        }
-        QUEUED_TAPS.addLast(new TapRequest(mapping));
-        Constants.LOG.debug("[{}] Enqueued tick-tap for mapping '{}'.", Constants.MOD_NAME, mapping.getName());
+        enqueue(mapping, new TapRequest(mapping, 1, 1, 1, null, true));
+    }
+
+    /** Hold the mapping for {@code ticks} client ticks (>= 1). */
+    public static void enqueueHold(KeyMapping mapping, int ticks) {
+        enqueue(mapping, new TapRequest(mapping, Math.max(1, ticks), 1, 1, null, false));
+    }
+
+    /** Hold the mapping while {@code stillHeld} returns true (checked every tick, minimum one tick). */
+    public static void enqueueHoldWhile(KeyMapping mapping, BooleanSupplier stillHeld) {
+        enqueue(mapping, new TapRequest(mapping, 1, 1, 1, stillHeld, false));
+    }
+
+    /** Press the mapping {@code count} times, one press every {@code intervalTicks} ticks. */
+    public static void enqueueRepeat(KeyMapping mapping, int intervalTicks, int count) {
+        enqueue(mapping, new TapRequest(mapping, 1, Math.max(1, intervalTicks), Math.max(1, count), null, false));
+    }
+
+    /** Stop every running job and release its key. */
+    public static void cancelAll() {
+        QUEUED_TAPS.clear();
+        for (Job j : ACTIVE) release(j);
+        ACTIVE.clear();
     }
 
     /** Call every client tick (Pre is fine). */
     public static void onClientTick() {
+        tick++;
+
         final Minecraft mc = Minecraft.getInstance();
         if (mc == null || mc.level == null) {
             // Game not ready—clear state defensively (no crashes)
-            if (!QUEUED_TAPS.isEmpty() || !HELD_THIS_TICK.isEmpty()) {
-                Constants.LOG.debug("[{}] Clearing tap queues (no level). queued={}, held={}",
-                        Constants.MOD_NAME, QUEUED_TAPS.size(), HELD_THIS_TICK.size());
+            if (!QUEUED_TAPS.isEmpty() || !ACTIVE.isEmpty()) {
+                Constants.LOG.debug("[{}] Clearing tap queues (no level). queued={}, active={}",
+                        Constants.MOD_NAME, QUEUED_TAPS.size(), ACTIVE.size());
             }
-            QUEUED_TAPS.clear();
-            releaseHeldKeys();
+            cancelAll();
             return;
         }
 
-        // First, release anything we held last tick.
-        releaseHeldKeys();
+        // Start queued requests this tick. A new request replaces a running job on the same mapping.
+        while (!QUEUED_TAPS.isEmpty()) {
+            TapRequest req = QUEUED_TAPS.pollFirst();
+            for (Iterator<Job> it = ACTIVE.iterator(); it.hasNext(); ) {
+                Job j = it.next();
+                if (j.req.mapping == req.mapping) {
+                    release(j);
+                    it.remove();
+                }
+            }
+            ACTIVE.add(new Job(req, tick));
+        }
 
-        // Then, process queued taps for this tick.
-        for (Iterator<TapRequest> it = QUEUED_TAPS.iterator(); it.hasNext(); ) {
-            TapRequest req = it.next();
-            KeyMapping map = req.mapping;
+        // Advance jobs: releases first, then presses, so a 1-tick repeat re-presses in the same tick.
+        for (Iterator<Job> it = ACTIVE.iterator(); it.hasNext(); ) {
+            Job j = it.next();
             try {
-                // Flip down
-                map.setDown(true);
-                HELD_THIS_TICK.addLast(map);
-
-                // Many listeners poll consumeClick()—trigger it once and LOG whether it was seen.
-                boolean clicked = false;
-                try {
-                    clicked = map.consumeClick();
-                } catch (Throwable t) {
-                    // ignore; will be logged below
+                if (j.down) {
+                    if (tick >= j.releaseTick && !stillHeld(j)) {
+                        release(j);
+                        j.pressesLeft--;
+                        if (j.pressesLeft <= 0) {
+                            it.remove();
+                            continue;
+                        }
+                        j.nextPressTick = j.pressedAt + j.req.intervalTicks;
+                    } else {
+                        // Screens may have called releaseAll(); keep it down.
+                        j.req.mapping.setDown(true);
+                        continue;
+                    }
+                }
+                if (tick >= j.nextPressTick) {
+                    press(j);
                 }
-
-                Constants.LOG.debug(
-                        "[{}] Tick-press mapping '{}' (consumeClick observed={})",
-                        Constants.MOD_NAME, map.getName(), clicked
-                );
             } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Failed to tick-press mapping '{}': {}", Constants.MOD_NAME, map.getName(), t.toString());
-            } finally {
+                Constants.LOG.warn("[{}] Tick job failed for '{}': {}", Constants.MOD_NAME, safeName(j.req.mapping), t.toString());
+                release(j);
                 it.remove();
             }
         }
     }
 
-    private static void releaseHeldKeys() {
-        while (!HELD_THIS_TICK.isEmpty()) {
-            KeyMapping m = HELD_THIS_TICK.pollFirst();
+    // --- internals -----------------------------------------------------------
+
+    private static void enqueue(KeyMapping mapping, TapRequest req) {
+        if (mapping == null) {
+            Constants.LOG.warn("[{}] enqueue called with null mapping; skipping.", Constants.MOD_NAME);
+            return;
+        }
+        QUEUED_TAPS.addLast(req);
+        Constants.LOG.debug("[{}] Enqueued tick job for mapping '{}' (hold={} interval={} count={} while={}).",
+                Constants.MOD_NAME, mapping.getName(), req.holdTicks, req.intervalTicks, req.count, req.holdWhile != null);
+    }
+
+    private static void press(Job j) {
+        KeyMapping map = j.req.mapping;
+        map.setDown(true);
+        j.down = true;
+        j.pressedAt = tick;
+        j.releaseTick = tick + j.req.holdTicks;
+
+        if (j.req.legacy) {
+            // Many listeners poll consumeClick()—trigger it once and LOG whether it was seen.
+            boolean clicked = false;
             try {
-                m.setDown(false);
-                Constants.LOG.debug("[{}] Released mapping '{}'", Constants.MOD_NAME, m.getName());
+                clicked = map.consumeClick();
             } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Failed to release mapping '{}': {}", Constants.MOD_NAME, m.getName(), t.toString());
+                // ignore; will be logged below
             }
+            Constants.LOG.debug("[{}] Tick-press mapping '{}' (consumeClick observed={})",
+                    Constants.MOD_NAME, map.getName(), clicked);
+        } else {
+            try {
+                KeyMappingAccessor acc = (KeyMappingAccessor) (Object) map;
+                acc.ezactions$setClickCount(acc.ezactions$getClickCount() + 1);
+            } catch (Throwable t) {
+                Constants.LOG.debug("[{}] Click count bump failed for '{}': {}", Constants.MOD_NAME, map.getName(), t.toString());
+            }
+            Constants.LOG.debug("[{}] Tick-press mapping '{}' (presses left={})", Constants.MOD_NAME, map.getName(), j.pressesLeft);
         }
     }
 
-    /** Simple request record so we can extend later (e.g., hold duration) without changing queue type. */
-    private record TapRequest(@Nullable KeyMapping mapping) {}
+    private static void release(Job j) {
+        if (!j.down) return;
+        j.down = false;
+        try {
+            j.req.mapping.setDown(false);
+            Constants.LOG.debug("[{}] Released mapping '{}'", Constants.MOD_NAME, j.req.mapping.getName());
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to release mapping '{}': {}", Constants.MOD_NAME, safeName(j.req.mapping), t.toString());
+        }
+    }
+
+    private static boolean stillHeld(Job j) {
+        if (j.req.holdWhile == null) return false;
+        try {
+            return j.req.holdWhile.getAsBoolean();
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static String safeName(KeyMapping km) {
+        try { return km.getName(); } catch (Throwable t) { return "<unknown-key>"; }
+    }
+
+    /**
+     * Immutable request: how long each press is held, the gap between presses and how many presses.
+     * {@code legacy} keeps the original one-tick tap semantics (no click counter bump).
+     */
+    private record TapRequest(@Nullable KeyMapping mapping, int holdTicks, int intervalTicks, int count,
+                              @Nullable BooleanSupplier holdWhile, boolean legacy) {}
+
+    /** Mutable per-request progress on the scheduler. */
+    private static final class Job {
+        final TapRequest req;
+        int pressesLeft;
+        boolean down;
+        long nextPressTick;
+        long pressedAt;
+        long releaseTick;
+
+        Job(TapRequest req, long startTick) {
+            this.req = req;
+            this.pressesLeft = req.count;
+            this.nextPressTick = startTick;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+// MainFile: src/main/java/org/z2six/ezactions/mixin/KeyMappingAccessor.java
+package org.z2six.ezactions.mixin;
+
+import net.minecraft.client.KeyMapping;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * // MainFile: KeyMappingAccessor.java
+ *
+ * Exposes KeyMapping's private click counter.
+ * We bump it for simulated presses so consumeClick()-driven handlers (attack, use, hotbar) fire.
+ */
+@Mixin(KeyMapping.class)
+public interface KeyMappingAccessor {
+    @Accessor("clickCount")
+    int ezactions$getClickCount();
+
+    @Accessor("clickCount")
+    void ezactions$setClickCount(int clickCount);
+}
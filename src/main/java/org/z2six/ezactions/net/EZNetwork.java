@@ -0,0 +1,134 @@
+// MainFile: src/main/java/org/z2six/ezactions/net/EZNetwork.java
+package org.z2six.ezactions.net;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+import org.z2six.ezactions.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Payloads for server-pushed menu packs (see {@link ServerPackHost} and {@link ServerPackClient}).
+ *
+ * Handshake, all optional (vanilla clients/servers and servers without a pack are unaffected):
+ *   S->C  pack_offer(hash)       on login, when the server has a pack
+ *   C->S  pack_request(hash)     only if the client has no cached copy of that hash
+ *   S->C  pack_data(hash, gz)    the gzipped pack JSON
+ * The hash is the SHA-256 (hex) of the uncompressed pack, so a cached copy is valid forever and
+ * reconnecting to an unchanged pack costs one tiny offer packet.
+ *
+ * Handlers run on the main thread (NeoForge default). Client handlers are reached through lambdas
+ * so a dedicated server never loads client-only code.
+ */
+public final class EZNetwork {
+
+    private EZNetwork() {}
+
+    public static final String PROTOCOL = "1";
+
+    /** Largest gzipped pack we send or accept (stays under the 1 MiB clientbound payload limit). */
+    public static final int MAX_PACK_BYTES = 900_000;
+
+    /** Largest uncompressed pack JSON we accept. */
+    public static final int MAX_PACK_JSON_BYTES = 16 * 1024 * 1024;
+
+    public record PackOffer(String hash) implements CustomPacketPayload {
+        public static final Type<PackOffer> TYPE = new Type<>(id("pack_offer"));
+        public static final StreamCodec<ByteBuf, PackOffer> STREAM_CODEC =
+                ByteBufCodecs.STRING_UTF8.map(PackOffer::new, PackOffer::hash);
+
+        @Override
+        public Type<? extends CustomPacketPayload> type() { return TYPE; }
+    }
+
+    public record PackRequest(String hash) implements CustomPacketPayload {
+        public static final Type<PackRequest> TYPE = new Type<>(id("pack_request"));
+        public static final StreamCodec<ByteBuf, PackRequest> STREAM_CODEC =
+                ByteBufCodecs.STRING_UTF8.map(PackRequest::new, PackRequest::hash);
+
+        @Override
+        public Type<? extends CustomPacketPayload> type() { return TYPE; }
+    }
+
+    public record PackData(String hash, byte[] gz) implements CustomPacketPayload {
+        public static final Type<PackData> TYPE = new Type<>(id("pack_data"));
+        public static final StreamCodec<ByteBuf, PackData> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.STRING_UTF8, PackData::hash,
+                ByteBufCodecs.BYTE_ARRAY, PackData::gz,
+                PackData::new);
+
+        @Override
+        public Type<? extends CustomPacketPayload> type() { return TYPE; }
+    }
+
+    /** MOD bus: register the pack payloads on both sides. */
+    public static void register(RegisterPayloadHandlersEvent e) {
+        try {
+            PayloadRegistrar r = e.registrar(PROTOCOL).optional();
+            r.playToClient(PackOffer.TYPE, PackOffer.STREAM_CODEC, (p, ctx) -> ServerPackClient.onOffer(p));
+            r.playToClient(PackData.TYPE, PackData.STREAM_CODEC, (p, ctx) -> ServerPackClient.onData(p));
+            r.playToServer(PackRequest.TYPE, PackRequest.STREAM_CODEC, ServerPackHost::onRequest);
+            Constants.LOG.debug("[{}] Registered menu pack payloads (protocol {}).", Constants.MOD_NAME, PROTOCOL);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to register menu pack payloads: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** Hashes are lowercase hex SHA-256; anything else is rejected before touching paths. */
+    public static boolean isValidHash(String hash) {
+        if (hash == null || hash.length() != 64) return false;
+        for (int i = 0; i < 64; i++) {
+            char c = hash.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) return false;
+        }
+        return true;
+    }
+
+    /** Lowercase hex SHA-256 of {@code data}. */
+    public static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JRE ships SHA-256
+        }
+    }
+
+    public static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(bos)) {
+            gz.write(raw);
+        }
+        return bos.toByteArray();
+    }
+
+    /** Inflate, refusing output larger than {@code maxBytes} (gzip bombs). */
+    public static byte[] gunzip(byte[] gz, int maxBytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gz))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(gz.length * 4);
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                if (out.size() + n > maxBytes) throw new IOException("pack exceeds " + maxBytes + " bytes");
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static ResourceLocation id(String path) {
+        return ResourceLocation.fromNamespaceAndPath(Constants.MOD_ID, path);
+    }
+}
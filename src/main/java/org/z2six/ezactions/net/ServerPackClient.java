@@ -0,0 +1,214 @@
+// MainFile: src/main/java/org/z2six/ezactions/net/ServerPackClient.java
+package org.z2six.ezactions.net;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.minecraft.Util;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.data.icon.IconSpec;
+import org.z2six.ezactions.data.menu.MenuItem;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client side of menu packs.
+ *
+ * On an offer we look for config/ezactions/packs/&lt;hash&gt; (gzipped pack JSON). A hit activates the
+ * pack without any further traffic; a miss sends one request and the reply is verified against the
+ * hash, cached, then activated. Activation only records the hash: the pack is read and parsed the
+ * first time the radial asks for {@link #category()}, and the result appears as one extra category
+ * at the end of the root page. It is never written to menu.json and is dropped on logout.
+ *
+ * Client main thread only; never throws.
+ */
+public final class ServerPackClient {
+
+    private ServerPackClient() {}
+
+    private static final String DIR_NAME = "packs";
+    /** Cached packs kept on disk (least recently used beyond this are deleted). */
+    private static final int MAX_CACHED_PACKS = 8;
+
+    private static String activeHash = null;
+    private static byte[] pendingGz = null;     // bytes just received, not yet parsed
+    private static String requestedHash = null; // hash we asked the server for
+    private static MenuItem category = null;
+    private static boolean parseFailed = false;
+    private static int version = 0;
+
+    /** Bumped whenever the active pack changes; the radial's visible-list cache keys on it. */
+    public static int version() { return version; }
+
+    /** S->C: the server has a pack with this hash. */
+    static void onOffer(EZNetwork.PackOffer offer) {
+        try {
+            String hash = offer.hash();
+            if (!EZNetwork.isValidHash(hash)) {
+                Constants.LOG.warn("[{}] Ignoring menu pack offer with a malformed hash.", Constants.MOD_NAME);
+                return;
+            }
+            if (hash.equals(activeHash)) return;
+
+            Path cached = cacheFile(hash);
+            if (Files.isRegularFile(cached)) {
+                touch(cached);
+                activate(hash, null);
+                Constants.LOG.debug("[{}] Menu pack {} found in cache.", Constants.MOD_NAME, hash);
+                return;
+            }
+            requestedHash = hash;
+            PacketDistributor.sendToServer(new EZNetwork.PackRequest(hash));
+            Constants.LOG.debug("[{}] Requested menu pack {}.", Constants.MOD_NAME, hash);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Menu pack offer handling failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** S->C: pack bytes for a hash we requested. */
+    static void onData(EZNetwork.PackData data) {
+        try {
+            String hash = data.hash();
+            byte[] gz = data.gz();
+            if (!hash.equals(requestedHash) || gz == null || gz.length > EZNetwork.MAX_PACK_BYTES) {
+                Constants.LOG.warn("[{}] Ignoring unexpected menu pack data.", Constants.MOD_NAME);
+                return;
+            }
+            requestedHash = null;
+
+            byte[] raw = EZNetwork.gunzip(gz, EZNetwork.MAX_PACK_JSON_BYTES);
+            if (!EZNetwork.sha256Hex(raw).equals(hash)) {
+                Constants.LOG.warn("[{}] Menu pack {} failed verification; discarding.", Constants.MOD_NAME, hash);
+                return;
+            }
+            activate(hash, gz);
+            Util.ioPool().execute(() -> store(hash, gz));
+            Constants.LOG.info("[{}] Received menu pack {} ({} bytes).", Constants.MOD_NAME, hash, gz.length);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Menu pack data handling failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** GAME bus: forget the server's pack when leaving (the disk cache stays). */
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut e) {
+        if (activeHash == null && requestedHash == null) return;
+        activeHash = null;
+        requestedHash = null;
+        pendingGz = null;
+        category = null;
+        parseFailed = false;
+        version++;
+    }
+
+    /** The active pack as a root category, parsed on first use; null when there is none. */
+    public static MenuItem category() {
+        if (activeHash == null || parseFailed) return null;
+        if (category != null) return category;
+        try {
+            byte[] gz = (pendingGz != null) ? pendingGz : Files.readAllBytes(cacheFile(activeHash));
+            pendingGz = null;
+            String json = new String(EZNetwork.gunzip(gz, EZNetwork.MAX_PACK_JSON_BYTES), StandardCharsets.UTF_8);
+            category = parse(JsonParser.parseString(json));
+            Constants.LOG.debug("[{}] Parsed menu pack {} ({} items).",
+                    Constants.MOD_NAME, activeHash, category.childrenMutable().size());
+        } catch (Throwable t) {
+            parseFailed = true;
+            Constants.LOG.warn("[{}] Failed to load menu pack {}: {}", Constants.MOD_NAME, activeHash, t.toString());
+        }
+        return category;
+    }
+
+    // --- internals -----------------------------------------------------------
+
+    private static void activate(String hash, byte[] gz) {
+        activeHash = hash;
+        pendingGz = gz;
+        category = null;
+        parseFailed = false;
+        version++;
+    }
+
+    /** Plain item array, or {"title", "icon", "items"}. */
+    private static MenuItem parse(JsonElement root) {
+        String title = "Server";
+        String icon = "minecraft:command_block";
+        JsonArray items;
+        if (root.isJsonArray()) {
+            items = root.getAsJsonArray();
+        } else {
+            JsonObject o = root.getAsJsonObject();
+            if (o.has("title")) title = o.get("title").getAsString();
+            if (o.has("icon")) icon = o.get("icon").getAsString();
+            items = o.getAsJsonArray("items");
+        }
+        List<MenuItem> children = new ArrayList<>();
+        if (items != null) {
+            for (JsonElement el : items) {
+                if (el.isJsonObject()) children.add(MenuItem.deserialize(el.getAsJsonObject()));
+            }
+        }
+        return MenuItem.category("server_pack", title, IconSpec.item(icon), children);
+    }
+
+    private static Path cacheDir() {
+        return FMLPaths.CONFIGDIR.get().resolve(Constants.MOD_ID).resolve(DIR_NAME);
+    }
+
+    private static Path cacheFile(String hash) {
+        return cacheDir().resolve(hash); // hash is validated hex, safe as a file name
+    }
+
+    /** Write to the cache (IO pool), then prune old packs. */
+    private static void store(String hash, byte[] gz) {
+        try {
+            Path dir = cacheDir();
+            Files.createDirectories(dir);
+            Path path = cacheFile(hash);
+            Path tmp = dir.resolve(hash + ".tmp");
+            Files.write(tmp, gz);
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            List<Path> packs = new ArrayList<>();
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+                for (Path p : ds) if (EZNetwork.isValidHash(p.getFileName().toString())) packs.add(p);
+            }
+            if (packs.size() > MAX_CACHED_PACKS) {
+                packs.sort((a, b) -> compareMtime(b, a));
+                for (int i = MAX_CACHED_PACKS; i < packs.size(); i++) Files.deleteIfExists(packs.get(i));
+            }
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to cache menu pack {}: {}", Constants.MOD_NAME, hash, t.toString());
+        }
+    }
+
+    /** Mark a cache hit as recently used so pruning keeps it. */
+    private static void touch(Path p) {
+        try {
+            Files.setLastModifiedTime(p, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (Throwable ignored) {}
+    }
+
+    private static int compareMtime(Path a, Path b) {
+        try {
+            return Files.getLastModifiedTime(a).compareTo(Files.getLastModifiedTime(b));
+        } catch (Throwable t) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// MainFile: src/main/java/org/z2six/ezactions/net/ServerPackHost.java
+package org.z2six.ezactions.net;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.z2six.ezactions.Constants;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Server side of menu packs: offers config/ezactions/server-pack.json to every joining player whose
+ * client speaks the pack channel, and sends the gzipped pack when the client asks for it.
+ *
+ * The pack file uses the menu.json item format, either as a plain array of items or as an object
+ * {"title": "...", "icon": "...", "items": [...]}. It is read, hashed and compressed once and
+ * re-read only when its modification time or size changes, so logins never re-compress it.
+ *
+ * Runs in dedicated and integrated servers (main thread). Only common classes here. Never throws.
+ */
+public final class ServerPackHost {
+
+    private ServerPackHost() {}
+
+    private static final String FILE_NAME = "server-pack.json";
+
+    /** Compressed pack as currently offered; null when there is no (usable) pack. */
+    private record Pack(String hash, byte[] gz) {}
+
+    private static Pack pack = null;
+    private static FileTime checkedMtime = null;
+    private static long checkedSize = -1L;
+
+    /** GAME bus: offer the pack to a joining player. */
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent e) {
+        try {
+            if (!(e.getEntity() instanceof ServerPlayer player)) return;
+            if (!player.connection.hasChannel(EZNetwork.PackOffer.TYPE)) return; // client without the mod
+            Pack p = current();
+            if (p == null) return;
+            PacketDistributor.sendToPlayer(player, new EZNetwork.PackOffer(p.hash()));
+            Constants.LOG.debug("[{}] Offered menu pack {} to {}.", Constants.MOD_NAME, p.hash(), player.getGameProfile().getName());
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Menu pack offer failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** C->S: the client has no cached copy of the offered hash. */
+    static void onRequest(EZNetwork.PackRequest req, IPayloadContext ctx) {
+        try {
+            if (!(ctx.player() instanceof ServerPlayer player)) return;
+            Pack p = current();
+            if (p == null || !p.hash().equals(req.hash())) {
+                Constants.LOG.debug("[{}] Ignoring request for stale menu pack {}.", Constants.MOD_NAME, req.hash());
+                return;
+            }
+            PacketDistributor.sendToPlayer(player, new EZNetwork.PackData(p.hash(), p.gz()));
+            Constants.LOG.info("[{}] Sent menu pack {} ({} bytes) to {}.",
+                    Constants.MOD_NAME, p.hash(), p.gz().length, player.getGameProfile().getName());
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Menu pack send failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** The pack on disk, rebuilt only when the file changed since the last check. */
+    private static Pack current() {
+        Path path = FMLPaths.CONFIGDIR.get().resolve(Constants.MOD_ID).resolve(FILE_NAME);
+        try {
+            if (!Files.isRegularFile(path)) {
+                pack = null;
+                checkedMtime = null;
+                return null;
+            }
+            FileTime mtime = Files.getLastModifiedTime(path);
+            long size = Files.size(path);
+            if (mtime.equals(checkedMtime) && size == checkedSize) return pack;
+            checkedMtime = mtime;
+            checkedSize = size;
+
+            byte[] raw = Files.readAllBytes(path);
+            byte[] gz = EZNetwork.gzip(raw);
+            if (gz.length > EZNetwork.MAX_PACK_BYTES) {
+                Constants.LOG.warn("[{}] {} is too large to send ({} bytes compressed, max {}).",
+                        Constants.MOD_NAME, FILE_NAME, gz.length, EZNetwork.MAX_PACK_BYTES);
+                pack = null;
+                return null;
+            }
+            pack = new Pack(EZNetwork.sha256Hex(raw), gz);
+            Constants.LOG.info("[{}] Loaded {} (hash {}, {} -> {} bytes).",
+                    Constants.MOD_NAME, FILE_NAME, pack.hash(), raw.length, gz.length);
+            return pack;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] Failed to read {}: {}", Constants.MOD_NAME, FILE_NAME, t.toString());
+            pack = null;
+            return null;
+        }
+    }
+}
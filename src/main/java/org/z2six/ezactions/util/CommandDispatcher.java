@@ -0,0 +1,174 @@
+// MainFile: src/main/java/org/z2six/ezactions/util/CommandDispatcher.java
+package org.z2six.ezactions.util;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.client.player.LocalPlayer;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.config.GeneralClientConfig;
+
+import java.util.ArrayDeque;
+
+/**
+ * Token-bucket gate in front of {@link ClientPacketListener#sendCommand(String)}.
+ *
+ * Every outgoing command goes through {@link #submit(String)}. While tokens are available the
+ * command is sent immediately; otherwise it waits in a bounded backlog that {@link #tickClient()}
+ * drains at the configured rate. The bucket refills per client tick, matching how servers decay
+ * their chat-spam counter, so a burst of lines never trips the vanilla spam kick.
+ *
+ * A queued command identical to the one queued right before it is coalesced (configurable), but
+ * only when the two come from separate submissions (e.g. spam-clicking an action). Lines of one
+ * submission (one command action run) are never merged, so a macro may repeat a line on purpose.
+ * The backlog is dropped when the connection changes or the player goes away.
+ *
+ * Thread model: client thread only. Crash-safe: failures are logged, never thrown.
+ */
+public final class CommandDispatcher {
+
+    private CommandDispatcher() {}
+
+    /** A waiting command and the submission it belongs to. */
+    private record Queued(String command, int submission) {}
+
+    private static final ArrayDeque<Queued> BACKLOG = new ArrayDeque<>();
+    private static int lastSubmission = 0;
+
+    /** Available send slots; refilled by rate/20 each tick, capped at burst. */
+    private static double tokens = 0.0D;
+    /** Connection the bucket state belongs to; a new connection starts with a full bucket. */
+    private static ClientPacketListener boundConnection = null;
+
+    // Metrics (since game start)
+    private static long sentTotal = 0L;
+    private static long coalescedTotal = 0L;
+    private static long droppedTotal = 0L;
+    private static int peakBacklog = 0;
+
+    /** Snapshot of the dispatcher's counters (for diagnostics). */
+    public record Stats(int backlog, int peakBacklog, long sent, long coalesced, long dropped,
+                        double tokens, double ratePerSecond, int burst) {}
+
+    /** A new submission id; pass it to {@link #submit(String, int)} for every line of one action run. */
+    public static int newSubmission() {
+        return ++lastSubmission;
+    }
+
+    /** Submit one command as a submission of its own. */
+    public static boolean submit(String command) {
+        return submit(command, newSubmission());
+    }
+
+    /**
+     * Submit one command (without leading '/'). Sends now if a token is available,
+     * otherwise queues it. Returns false if the command was rejected (no connection, queue full).
+     */
+    public static boolean submit(String command, int submission) {
+        try {
+            if (command == null || command.isBlank()) return false;
+
+            ClientPacketListener conn = connection();
+            if (conn == null) {
+                Constants.LOG.debug("[{}] CommandDispatcher: no connection, dropping '{}'.", Constants.MOD_NAME, command);
+                return false;
+            }
+            bind(conn);
+
+            if (BACKLOG.isEmpty() && tokens >= 1.0D) {
+                send(conn, command);
+                return true;
+            }
+
+            Queued last = BACKLOG.peekLast();
+            if (last != null && last.submission() != submission && command.equals(last.command())
+                    && GeneralClientConfig.CONFIG.coalesceDuplicateCommands()) {
+                coalescedTotal++;
+                Constants.LOG.debug("[{}] CommandDispatcher: coalesced duplicate '{}'.", Constants.MOD_NAME, command);
+                return true;
+            }
+
+            if (BACKLOG.size() >= GeneralClientConfig.CONFIG.commandQueueLimit()) {
+                droppedTotal++;
+                Constants.LOG.warn("[{}] CommandDispatcher: backlog full ({}), dropping '{}'.",
+                        Constants.MOD_NAME, BACKLOG.size(), command);
+                return false;
+            }
+
+            BACKLOG.addLast(new Queued(command, submission));
+            if (BACKLOG.size() > peakBacklog) peakBacklog = BACKLOG.size();
+            return true;
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] CommandDispatcher.submit failed for '{}': {}", Constants.MOD_NAME, command, t.toString());
+            return false;
+        }
+    }
+
+    /** Called once per client tick (POST). Refills the bucket and drains what it allows. */
+    public static void tickClient() {
+        try {
+            ClientPacketListener conn = connection();
+            if (conn == null) {
+                if (!BACKLOG.isEmpty()) {
+                    Constants.LOG.debug("[{}] CommandDispatcher: connection gone, clearing {} queued.", Constants.MOD_NAME, BACKLOG.size());
+                }
+                BACKLOG.clear();
+                boundConnection = null;
+                return;
+            }
+            bind(conn);
+
+            int burst = GeneralClientConfig.CONFIG.commandBurst();
+            tokens = Math.min(burst, tokens + GeneralClientConfig.CONFIG.commandsPerSecond() / 20.0D);
+
+            while (tokens >= 1.0D && !BACKLOG.isEmpty()) {
+                send(conn, BACKLOG.pollFirst().command());
+            }
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] CommandDispatcher.tickClient failed: {}", Constants.MOD_NAME, t.toString());
+            BACKLOG.clear();
+        }
+    }
+
+    /** Number of commands waiting for a send slot. */
+    public static int backlog() {
+        return BACKLOG.size();
+    }
+
+    public static Stats stats() {
+        return new Stats(BACKLOG.size(), peakBacklog, sentTotal, coalescedTotal, droppedTotal, tokens,
+                GeneralClientConfig.CONFIG.commandsPerSecond(), GeneralClientConfig.CONFIG.commandBurst());
+    }
+
+    /** Drop everything still waiting (e.g. user cancelled). */
+    public static void clear() {
+        BACKLOG.clear();
+    }
+
+    // --- internals -----------------------------------------------------------
+
+    private static void send(ClientPacketListener conn, String command) {
+        tokens -= 1.0D;
+        try {
+            conn.sendCommand(command);
+            sentTotal++;
+            Constants.LOG.debug("[{}] Sent command: {}", Constants.MOD_NAME, command);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] sendCommand failed for '{}': {}", Constants.MOD_NAME, command, t.toString());
+        }
+    }
+
+    private static void bind(ClientPacketListener conn) {
+        if (conn != boundConnection) {
+            boundConnection = conn;
+            BACKLOG.clear();
+            tokens = GeneralClientConfig.CONFIG.commandBurst();
+        }
+    }
+
+    private static ClientPacketListener connection() {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc == null) return null;
+        LocalPlayer p = mc.player;
+        return (p == null) ? null : p.connection;
+    }
+}
@@ -10,7 +10,8 @@ import java.util.ArrayDeque;
 /**
  * Simple client-side sequencer for multi-command actions.
  * Enqueue a list of commands with a per-line delay (in ticks). Each client tick
- * decrements the timer; when it hits 0, we send the next command via sendCommand.
+ * decrements the timer; when it hits 0, we hand the next command to CommandDispatcher,
+ * which applies the global rate limit on top of the per-line delay.
  *
  * Crash-safe: skips gracefully if player or connection goes away; clears queue.
  * Thread model: called and ticked on the client thread.
@@ -22,6 +23,7 @@ public final class CommandSequencer {
     private static final ArrayDeque<String> queue = new ArrayDeque<>();
     private static int delayTicks = 0;
     private static int ticksLeft = 0;
+    private static int submission = 0; // dispatcher submission shared by all lines of the sequence
 
     /** Enqueue a new sequence; replaces any in-flight sequence. */
     public static void enqueue(String[] commands, int perLineDelayTicks) {
@@ -33,6 +35,7 @@ public final class CommandSequencer {
                 }
             }
             delayTicks = Math.max(0, perLineDelayTicks);
+            submission = CommandDispatcher.newSubmission();
             ticksLeft = 0; // send first command on next tick
             Constants.LOG.debug("[{}] CommandSequencer: queued {} cmd(s), delay={} ticks.", Constants.MOD_NAME, queue.size(), delayTicks);
         } catch (Throwable t) {
@@ -61,12 +64,11 @@ public final class CommandSequencer {
             String next = queue.pollFirst();
             if (next == null) { clear(); return; }
 
-            // Send on the client thread; we are already on it in client tick.
-            try {
-                p.connection.sendCommand(next);
-                Constants.LOG.debug("[{}] Sequencer sent command: {}", Constants.MOD_NAME, next);
-            } catch (Throwable t) {
-                Constants.LOG.warn("[{}] Sequencer send failed for '{}': {}", Constants.MOD_NAME, next, t.toString());
+            // We are already on the client thread in client tick.
+            if (CommandDispatcher.submit(next, submission)) {
+                Constants.LOG.debug("[{}] Sequencer submitted command: {}", Constants.MOD_NAME, next);
+            } else {
+                Constants.LOG.warn("[{}] Sequencer submit rejected for '{}'", Constants.MOD_NAME, next);
             }
 
             // Schedule next
@@ -0,0 +1,147 @@
+// MainFile: src/main/java/org/z2six/ezactions/util/CommandValidator.java
+package org.z2six.ezactions.util;
+
+import com.mojang.brigadier.ParseResults;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import org.z2six.ezactions.Constants;
+import org.z2six.ezactions.data.click.ClickActionCommand;
+import org.z2six.ezactions.data.menu.MenuItem;
+import org.z2six.ezactions.data.menu.RadialMenu;
+import org.z2six.ezactions.helper.ClientTaskQueue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client-side Brigadier pre-parse of command lines against the command tree the server sent us.
+ *
+ * Results are cached per command text; the cache belongs to one command tree and is dropped when
+ * the connection installs a new one (join, /reload, permission change), which also bumps
+ * {@link #treeVersion()}. When a new tree arrives, every command action in the menu is
+ * pre-parsed on the task queue so known-bad lines are flagged before anyone runs them.
+ *
+ * Without a connection nothing can be checked and lines report {@link Status#UNKNOWN}.
+ * Client thread only; never throws.
+ */
+public final class CommandValidator {
+
+    private CommandValidator() {}
+
+    public enum Status { OK, INVALID, UNKNOWN }
+
+    /** Parse outcome; {@code message} is the Brigadier error for INVALID lines. */
+    public record Result(Status status, String message) {
+        static final Result OK = new Result(Status.OK, "");
+        static final Result UNKNOWN = new Result(Status.UNKNOWN, "");
+
+        public boolean isInvalid() { return status == Status.INVALID; }
+    }
+
+    private static final int CACHE_LIMIT = 512;
+
+    /** LRU: text -> result for the current tree. */
+    private static final Map<String, Result> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+            return size() > CACHE_LIMIT;
+        }
+    };
+
+    private static com.mojang.brigadier.CommandDispatcher<SharedSuggestionProvider> boundTree = null;
+    private static int treeVersion = 0;
+
+    /** Bumped whenever the server command tree changes; per-action verdicts key on it. */
+    public static int treeVersion() {
+        return treeVersion;
+    }
+
+    /** Cheap per-tick check for a new command tree (reference compare). */
+    public static void tick(Minecraft mc) {
+        try {
+            sync(mc);
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] CommandValidator.tick failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+
+    /** Parse one command line (no leading '/'). */
+    public static Result check(Minecraft mc, String line) {
+        try {
+            if (line == null || line.isBlank()) return Result.UNKNOWN;
+            ClientPacketListener conn = sync(mc);
+            if (conn == null || boundTree == null) return Result.UNKNOWN;
+
+            Result cached = CACHE.get(line);
+            if (cached != null) return cached;
+
+            ParseResults<SharedSuggestionProvider> parse = boundTree.parse(line, conn.getSuggestionsProvider());
+            CommandSyntaxException err = Commands.getParseException(parse);
+            Result r = (err == null) ? Result.OK : new Result(Status.INVALID, err.getMessage());
+            CACHE.put(line, r);
+            return r;
+        } catch (Throwable t) {
+            Constants.LOG.debug("[{}] CommandValidator: parse of '{}' failed: {}", Constants.MOD_NAME, line, t.toString());
+            return Result.UNKNOWN;
+        }
+    }
+
+    /**
+     * First invalid line of a multi-line command text as "Line N: message", or null when every
+     * line parses (or cannot be checked). Lines containing variables are skipped. Used by the editor.
+     */
+    public static String firstIssue(Minecraft mc, List<String> lines) {
+        if (lines == null) return null;
+        for (int i = 0; i < lines.size(); i++) {
+            String s = lines.get(i);
+            if (s == null || s.indexOf('{') >= 0) continue;
+            Result r = check(mc, s);
+            if (r.isInvalid()) return "Line " + (i + 1) + ": " + r.message();
+        }
+        return null;
+    }
+
+    // --- internals -----------------------------------------------------------
+
+    private static ClientPacketListener sync(Minecraft mc) {
+        ClientPacketListener conn = (mc == null) ? null : mc.getConnection();
+        com.mojang.brigadier.CommandDispatcher<SharedSuggestionProvider> tree = (conn == null) ? null : conn.getCommands();
+        if (tree != boundTree) {
+            boundTree = tree;
+            CACHE.clear();
+            treeVersion++;
+            if (tree != null) ClientTaskQueue.post(CommandValidator::prevalidateMenu);
+        }
+        return conn;
+    }
+
+    /** Pre-parse every command action in the menu against the new tree. */
+    private static void prevalidateMenu() {
+        try {
+            Minecraft mc = Minecraft.getInstance();
+            int actions = 0;
+            Deque<List<MenuItem>> todo = new ArrayDeque<>();
+            todo.push(RadialMenu.rootMutable());
+            while (!todo.isEmpty()) {
+                for (MenuItem mi : todo.pop()) {
+                    if (mi.isCategory()) {
+                        todo.push(mi.childrenMutable());
+                    } else if (mi.action() instanceof ClickActionCommand cmd) {
+                        cmd.warm(mc);
+                        actions++;
+                    }
+                }
+            }
+            Constants.LOG.debug("[{}] CommandValidator: pre-parsed {} command action(s), {} cached line(s).",
+                    Constants.MOD_NAME, actions, CACHE.size());
+        } catch (Throwable t) {
+            Constants.LOG.warn("[{}] CommandValidator pre-parse failed: {}", Constants.MOD_NAME, t.toString());
+        }
+    }
+}